@@ -0,0 +1,38 @@
+package woowacourse.auth.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashPasswordEncoderBenchmark {
+    private final HashPasswordEncoder passwordEncoder = new HashPasswordEncoder();
+    private final RawPassword rawPassword = new RawPassword("password1234!");
+
+    @Benchmark
+    public EncodePassword encode() {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Benchmark
+    public EncodePassword formatHexEncode() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        messageDigest.update(rawPassword.getPassword().getBytes());
+        StringBuilder builder = new StringBuilder();
+        for (byte encodedByte : messageDigest.digest()) {
+            builder.append(String.format("%02x", encodedByte));
+        }
+        return new EncodePassword(builder.toString());
+    }
+}
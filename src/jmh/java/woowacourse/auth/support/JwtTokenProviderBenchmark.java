@@ -0,0 +1,80 @@
+package woowacourse.auth.support;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import woowacourse.shoppingcart.exception.AuthorizationException;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+    private static final String SECRET_KEY =
+            "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final long VALIDITY_IN_MILLISECONDS = 3600000;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider cachingTokenProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, VALIDITY_IN_MILLISECONDS);
+        cachingTokenProvider = new JwtTokenProvider(SECRET_KEY, VALIDITY_IN_MILLISECONDS, true, 10000,
+                Duration.ofMinutes(10));
+        secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        token = jwtTokenProvider.createToken("puterism");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken("puterism");
+    }
+
+    @Benchmark
+    public String parseTwicePerRequest() {
+        if (!legacyValidateToken(token)) {
+            throw new AuthorizationException();
+        }
+        return legacyGetClaims(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String parseOncePerRequest() {
+        return jwtTokenProvider.getPayload(token);
+    }
+
+    @Benchmark
+    public String cachedVerification() {
+        return cachingTokenProvider.getPayload(token);
+    }
+
+    private boolean legacyValidateToken(String token) {
+        try {
+            Jws<Claims> claims = legacyGetClaims(token);
+            return !claims.getBody().getExpiration().before(new Date());
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Jws<Claims> legacyGetClaims(String token) {
+        return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+    }
+}
@@ -0,0 +1,51 @@
+package woowacourse.auth.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordEncoderBenchmark {
+    @Param({"sha256", "pbkdf2:100000", "pbkdf2:310000", "scrypt:4096", "scrypt:16384", "scrypt:65536"})
+    private String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private RawPassword rawPassword;
+    private EncodePassword encodePassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = createPasswordEncoder(encoder);
+        rawPassword = new RawPassword("password1234!");
+        encodePassword = passwordEncoder.encode(rawPassword);
+    }
+
+    private PasswordEncoder createPasswordEncoder(String encoder) {
+        String[] setting = encoder.split(":");
+        switch (setting[0]) {
+            case "pbkdf2":
+                return new Pbkdf2PasswordEncoder(Integer.parseInt(setting[1]));
+            case "scrypt":
+                return new ScryptPasswordEncoder(Integer.parseInt(setting[1]), 8, 1);
+            default:
+                return new HashPasswordEncoder();
+        }
+    }
+
+    @Benchmark
+    public boolean login() {
+        return passwordEncoder.matches(rawPassword, encodePassword);
+    }
+}
@@ -0,0 +1,84 @@
+package woowacourse.shoppingcart.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import woowacourse.shoppingcart.dao.CartDao;
+import woowacourse.shoppingcart.domain.Cart;
+import woowacourse.shoppingcart.domain.CartItem;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartQuantityUpdateBenchmark {
+    private static final Long CUSTOMER_ID = 1L;
+
+    @Param({"10", "200", "1000"})
+    private int cartSize;
+
+    private SingleConnectionDataSource dataSource;
+    private CartDao cartDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:cart_benchmark;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS cart_item");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS product");
+        jdbcTemplate.execute("CREATE TABLE product (id BIGINT NOT NULL AUTO_INCREMENT, name VARCHAR(255) NOT NULL, " +
+                "price INTEGER NOT NULL, thumbnail VARCHAR(255), PRIMARY KEY (id))");
+        jdbcTemplate.execute("CREATE TABLE cart_item (id BIGINT NOT NULL AUTO_INCREMENT, " +
+                "customer_id BIGINT NOT NULL, product_id BIGINT NOT NULL, quantity BIGINT NOT NULL, " +
+                "PRIMARY KEY (id), CONSTRAINT uk_cart_item_customer_product UNIQUE (customer_id, product_id))");
+
+        cartDao = new CartDao(jdbcTemplate);
+        for (long productId = 1; productId <= cartSize; productId++) {
+            jdbcTemplate.update("INSERT INTO product (name, price, thumbnail) VALUES (?, ?, ?)",
+                    "product" + productId, 1_000, "thumbnail.com");
+            cartDao.addCartItem(CUSTOMER_ID, productId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void loadCartThenUpdate() {
+        final long productId = randomProductId();
+        final Cart cart = new Cart(cartDao.findCartItemsByCustomerId(CUSTOMER_ID));
+        final CartItem cartItem = cartDao.findCartItemByProductId(productId, CUSTOMER_ID)
+                .orElseThrow(InvalidCartItemException::new);
+        final int quantity = randomQuantity();
+        cart.updateCartItem(cartItem, quantity);
+        cartDao.updateCartItemQuantity(quantity, productId, CUSTOMER_ID);
+    }
+
+    @Benchmark
+    public void conditionalUpdate() {
+        cartDao.updateCartItemQuantity(randomQuantity(), randomProductId(), CUSTOMER_ID);
+    }
+
+    private long randomProductId() {
+        return ThreadLocalRandom.current().nextLong(1, cartSize + 1);
+    }
+
+    private int randomQuantity() {
+        return ThreadLocalRandom.current().nextInt(1, 100);
+    }
+}
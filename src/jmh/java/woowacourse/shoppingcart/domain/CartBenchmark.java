@@ -0,0 +1,65 @@
+package woowacourse.shoppingcart.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import woowacourse.shoppingcart.exception.ExistCartItemException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int cartSize;
+
+    private Cart cart;
+    private List<CartItem> legacyCartItems;
+    private Product newProduct;
+    private CartItem lastItem;
+
+    @Setup
+    public void setUp() {
+        List<CartItem> cartItems = LongStream.rangeClosed(1, cartSize)
+                .mapToObj(id -> CartItem.of(id, "상품" + id, 1000, "http://example.com/" + id + ".png", 1))
+                .collect(Collectors.toList());
+        cart = new Cart(cartItems);
+        legacyCartItems = new ArrayList<>(cartItems);
+        newProduct = new Product(cartSize + 1L, "새 상품", 1000, "http://example.com/new.png");
+        lastItem = cartItems.get(cartItems.size() - 1);
+    }
+
+    @Benchmark
+    public Cart addThenDelete() {
+        cart.add(newProduct);
+        cart.delete(new CartItem(newProduct, 1));
+        return cart;
+    }
+
+    @Benchmark
+    public Cart updateLastItem() {
+        cart.updateCartItem(lastItem, 2);
+        return cart;
+    }
+
+    @Benchmark
+    public List<CartItem> listBasedAddThenDelete() {
+        CartItem cartItem = new CartItem(newProduct, 1);
+        if (legacyCartItems.stream().anyMatch(it -> it.getProduct().equals(newProduct))) {
+            throw new ExistCartItemException();
+        }
+        legacyCartItems.add(cartItem);
+        legacyCartItems.remove(cartItem);
+        return legacyCartItems;
+    }
+}
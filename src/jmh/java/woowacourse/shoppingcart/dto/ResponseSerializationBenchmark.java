@@ -0,0 +1,52 @@
+package woowacourse.shoppingcart.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+    @Param({"20", "200"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ProductsResponse productsResponse;
+    private CartResponse cartResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<ProductResponse> products = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new ProductResponse(id, "상품" + id, 1000, "http://example.com/" + id + ".png"))
+                .collect(Collectors.toList());
+        productsResponse = new ProductsResponse(products, (long) size);
+        cartResponse = new CartResponse(products.stream()
+                .map(product -> new CartItemResponse(product, 1))
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public byte[] serializeProducts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productsResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeCart() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cartResponse);
+    }
+}
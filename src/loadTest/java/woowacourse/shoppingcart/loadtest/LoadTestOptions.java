@@ -0,0 +1,56 @@
+package woowacourse.shoppingcart.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadTestOptions {
+    private final Map<String, String> options;
+
+    private LoadTestOptions(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static LoadTestOptions from(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("옵션은 key=value 형식이어야 합니다: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(options);
+    }
+
+    public int users() {
+        return intValue("users", 16);
+    }
+
+    public int iterations() {
+        return intValue("iterations", 50);
+    }
+
+    public int warmupIterations() {
+        return intValue("warmupIterations", 5);
+    }
+
+    public int products() {
+        return intValue("products", 100);
+    }
+
+    public String target() {
+        return stringValue("target", "");
+    }
+
+    public String report() {
+        return stringValue("report", "");
+    }
+
+    private int intValue(String key, int defaultValue) {
+        return Integer.parseInt(stringValue(key, String.valueOf(defaultValue)));
+    }
+
+    private String stringValue(String key, String defaultValue) {
+        return options.getOrDefault(key, System.getProperty("loadtest." + key, defaultValue));
+    }
+}
@@ -0,0 +1,136 @@
+package woowacourse.shoppingcart.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import woowacourse.Application;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+public class LoadTestRunner {
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.from(args);
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.target();
+        if (baseUrl.isEmpty()) {
+            context = startEmbeddedServer();
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.users());
+        try {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            ShoppingWorkload workload = new ShoppingWorkload(httpClient, baseUrl);
+            if (context != null) {
+                workload.seedProducts(options.products());
+            }
+            new LoadTestRunner(options, workload, executor).run();
+        } finally {
+            executor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startEmbeddedServer() {
+        return new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.profiles.active=dev",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=warn")
+                .run();
+    }
+
+    private final LoadTestOptions options;
+    private final ShoppingWorkload workload;
+    private final ExecutorService executor;
+    private final String runId = Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36), 36);
+
+    private LoadTestRunner(LoadTestOptions options, ShoppingWorkload workload, ExecutorService executor) {
+        this.options = options;
+        this.workload = workload;
+        this.executor = executor;
+    }
+
+    private void run() throws InterruptedException, ExecutionException, IOException {
+        runPhase("w", options.warmupIterations(), false);
+
+        long start = System.nanoTime();
+        int failedIterations = runPhase("m", options.iterations(), true);
+        long elapsed = System.nanoTime() - start;
+
+        List<StepStatistics.Summary> summaries = workload.getStatistics().values().stream()
+                .map(statistics -> statistics.summarize(elapsed))
+                .collect(Collectors.toList());
+        printReport(summaries, elapsed, failedIterations);
+        writeReport(summaries);
+    }
+
+    private int runPhase(String phase, int iterations, boolean recording)
+            throws InterruptedException, ExecutionException {
+        List<Callable<Integer>> users = new ArrayList<>();
+        for (int user = 0; user < options.users(); user++) {
+            String prefix = "lt" + runId + phase + user + "-";
+            users.add(() -> runUser(prefix, iterations, recording));
+        }
+        int failedIterations = 0;
+        for (Future<Integer> result : executor.invokeAll(users)) {
+            failedIterations += result.get();
+        }
+        return failedIterations;
+    }
+
+    private int runUser(String prefix, int iterations, boolean recording) {
+        int failedIterations = 0;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            try {
+                workload.run(prefix + iteration, recording);
+            } catch (RuntimeException e) {
+                failedIterations++;
+                System.err.println(e.getMessage());
+            }
+        }
+        return failedIterations;
+    }
+
+    private void printReport(List<StepStatistics.Summary> summaries, long elapsedNanos, int failedIterations) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        int completed = options.users() * options.iterations() - failedIterations;
+        System.out.printf("%nusers=%d iterations=%d elapsed=%.1fs scenarios/s=%.1f failed=%d%n",
+                options.users(), options.iterations(), seconds, completed / seconds, failedIterations);
+        System.out.println(StepStatistics.Summary.header());
+        summaries.forEach(summary -> System.out.println(summary.toRow()));
+    }
+
+    private void writeReport(List<StepStatistics.Summary> summaries) throws IOException {
+        if (options.report().isEmpty()) {
+            return;
+        }
+        Path report = Path.of(options.report());
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(StepStatistics.Summary.csvHeader());
+        summaries.forEach(summary -> lines.add(summary.toCsv()));
+        Files.write(report, lines);
+        System.out.println("report: " + report.toAbsolutePath());
+    }
+}
@@ -0,0 +1,164 @@
+package woowacourse.shoppingcart.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ShoppingWorkload {
+    public static final List<String> STEPS =
+            List.of("signup", "login", "browse", "addCart", "updateCart", "deleteCart", "order");
+
+    private static final String PASSWORD = "loadtest1!";
+    private static final int CART_ITEM_COUNT = 3;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Map<String, StepStatistics> statistics = new LinkedHashMap<>();
+
+    public ShoppingWorkload(HttpClient httpClient, String baseUrl) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        STEPS.forEach(step -> statistics.put(step, new StepStatistics(step)));
+    }
+
+    public void seedProducts(int count) {
+        for (int i = 1; i <= count; i++) {
+            Map<String, Object> product = Map.of(
+                    "name", "부하상품" + i, "price", 1000 + i, "thumbnail", "https://example.com/" + i + ".png");
+            expect(send(post("/products", product, null)), 201, "상품 등록");
+        }
+    }
+
+    public void run(String username, boolean recording) {
+        Map<String, Object> customer = Map.of(
+                "username", username, "password", PASSWORD, "nickname", "부하", "age", 20);
+        execute("signup", post("/customers", customer, null), 201, recording);
+
+        HttpResponse<String> login = execute("login",
+                post("/login", Map.of("username", username, "password", PASSWORD), null), 200, recording);
+        String accessToken = read(login).get("accessToken").asText();
+
+        HttpResponse<String> products = execute("browse", get("/products?size=20"), 200, recording);
+        List<Long> productIds = pickProductIds(read(products));
+
+        for (Long productId : productIds) {
+            execute("addCart", post("/cart/" + productId, null, accessToken), 201, recording);
+        }
+        execute("updateCart", put("/cart/" + productIds.get(0) + "/quantity", Map.of("quantity", 2), accessToken),
+                200, recording);
+        execute("deleteCart", delete("/cart/products", Map.of("productIds", productIds.subList(0, 1)), accessToken),
+                204, recording);
+        execute("order", post("/orders", Map.of("productIds", productIds.subList(1, productIds.size())), accessToken),
+                201, recording);
+    }
+
+    public Map<String, StepStatistics> getStatistics() {
+        return statistics;
+    }
+
+    private HttpResponse<String> execute(String step, HttpRequest request, int expectedStatus, boolean recording) {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() != expectedStatus) {
+            if (recording) {
+                statistics.get(step).recordError();
+            }
+            throw new IllegalStateException(step + " 요청이 실패했습니다. status=" + response.statusCode()
+                    + " body=" + response.body());
+        }
+        if (recording) {
+            statistics.get(step).record(elapsed);
+        }
+        return response;
+    }
+
+    private List<Long> pickProductIds(JsonNode products) {
+        List<Long> ids = new ArrayList<>();
+        products.get("products").forEach(product -> ids.add(product.get("id").asLong()));
+        if (ids.size() < CART_ITEM_COUNT) {
+            throw new IllegalStateException("부하 테스트에 필요한 상품이 부족합니다.");
+        }
+        List<Long> picked = new ArrayList<>();
+        int offset = ThreadLocalRandom.current().nextInt(ids.size() - CART_ITEM_COUNT + 1);
+        for (int i = 0; i < CART_ITEM_COUNT; i++) {
+            picked.add(ids.get(offset + i));
+        }
+        return picked;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path, null).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body, String accessToken) {
+        return request(path, accessToken).POST(bodyOf(body)).build();
+    }
+
+    private HttpRequest put(String path, Object body, String accessToken) {
+        return request(path, accessToken).PUT(bodyOf(body)).build();
+    }
+
+    private HttpRequest delete(String path, Object body, String accessToken) {
+        return request(path, accessToken).method("DELETE", bodyOf(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher bodyOf(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode read(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void expect(HttpResponse<String> response, int expectedStatus, String description) {
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(description + " 요청이 실패했습니다. status=" + response.statusCode());
+        }
+    }
+}
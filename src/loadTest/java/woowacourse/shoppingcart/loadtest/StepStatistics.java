@@ -0,0 +1,89 @@
+package woowacourse.shoppingcart.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class StepStatistics {
+    private final String step;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    public StepStatistics(String step) {
+        this.step = step;
+    }
+
+    public synchronized void record(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    public synchronized void recordError() {
+        errors++;
+    }
+
+    public synchronized Summary summarize(long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return new Summary(step, count, errors, count / seconds,
+                percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+    }
+
+    private double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return toMillis(sorted[Math.max(rank - 1, 0)]);
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public static class Summary {
+        private final String step;
+        private final int count;
+        private final int errors;
+        private final double throughput;
+        private final double p50;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        private Summary(String step, int count, int errors, double throughput,
+                        double p50, double p99, double p999, double max) {
+            this.step = step;
+            this.count = count;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.p999 = p999;
+            this.max = max;
+        }
+
+        public static String header() {
+            return String.format("%-10s %8s %7s %10s %9s %9s %9s %9s",
+                    "step", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        }
+
+        public static String csvHeader() {
+            return "step,count,errors,throughput,p50_ms,p99_ms,p999_ms,max_ms";
+        }
+
+        public String toRow() {
+            return String.format("%-10s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f",
+                    step, count, errors, throughput, p50, p99, p999, max);
+        }
+
+        public String toCsv() {
+            return String.format("%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f",
+                    step, count, errors, throughput, p50, p99, p999, max);
+        }
+    }
+}
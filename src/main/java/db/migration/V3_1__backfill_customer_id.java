@@ -0,0 +1,39 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+
+public class V3_1__backfill_customer_id extends BaseJavaMigration {
+    private static final int BATCH_SIZE = 1_000;
+    private static final List<String> TABLES = List.of("cart_item", "orders");
+
+    // 배치마다 커밋해 큰 테이블에서도 한 트랜잭션이 모든 행의 잠금을 잡지 않도록 한다.
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(final Context context) {
+        final JdbcTemplate jdbcTemplate =
+                new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        TABLES.forEach(table -> backfill(jdbcTemplate, table));
+    }
+
+    private void backfill(final JdbcTemplate jdbcTemplate, final String table) {
+        final Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        final String sql = "UPDATE " + table + " SET customer_id = "
+                + "(SELECT customer.id FROM customer WHERE customer.username = " + table + ".customer_username) "
+                + "WHERE id > ? AND id <= ?";
+        for (long from = 0; from < maxId; from += BATCH_SIZE) {
+            jdbcTemplate.update(sql, from, from + BATCH_SIZE);
+        }
+    }
+}
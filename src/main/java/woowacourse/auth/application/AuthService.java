@@ -2,46 +2,97 @@ package woowacourse.auth.application;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import woowacourse.auth.dto.RefreshTokenRequest;
 import woowacourse.auth.dto.TokenRequest;
 import woowacourse.auth.dto.TokenResponse;
 import woowacourse.auth.support.JwtTokenProvider;
+import woowacourse.auth.support.RefreshSession;
+import woowacourse.auth.support.RefreshTokenProvider;
+import woowacourse.auth.support.RefreshTokenStore;
+import woowacourse.auth.support.TokenDigests;
+import woowacourse.shoppingcart.application.CustomerCache;
 import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.domain.customer.Customer;
-import woowacourse.shoppingcart.domain.customer.EncodePassword;
 import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
 import woowacourse.shoppingcart.domain.customer.RawPassword;
+import woowacourse.shoppingcart.exception.AuthorizationException;
 import woowacourse.shoppingcart.exception.InvalidArgumentRequestException;
 import woowacourse.shoppingcart.exception.InvalidCustomerException;
 
-@Transactional(readOnly = true)
+import java.time.Instant;
+
 @Service
 public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomerDao customerDao;
     private final PasswordEncoder passwordEncoder;
+    private final CustomerCache customerCache;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
 
-    public AuthService(JwtTokenProvider jwtTokenProvider, CustomerDao customerDao, PasswordEncoder passwordEncoder) {
+    public AuthService(JwtTokenProvider jwtTokenProvider, CustomerDao customerDao, PasswordEncoder passwordEncoder,
+                       CustomerCache customerCache, RefreshTokenProvider refreshTokenProvider,
+                       RefreshTokenStore refreshTokenStore) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.customerDao = customerDao;
         this.passwordEncoder = passwordEncoder;
+        this.customerCache = customerCache;
+        this.refreshTokenProvider = refreshTokenProvider;
+        this.refreshTokenStore = refreshTokenStore;
     }
 
     public TokenResponse createToken(TokenRequest tokenRequest) {
-        checkInvalidLogin(tokenRequest.getUsername(), tokenRequest.getPassword());
-        String accessToken = jwtTokenProvider.createToken(tokenRequest.getUsername());
-        return new TokenResponse(accessToken);
+        Instant authenticatedAt = refreshTokenProvider.now();
+        Customer customer = checkInvalidLogin(tokenRequest.getUsername(), tokenRequest.getPassword());
+        return issueTokens(customer.getId(), customer.getUsername(), authenticatedAt);
+    }
+
+    @Transactional
+    public TokenResponse refreshToken(RefreshTokenRequest refreshTokenRequest) {
+        String refreshToken = refreshTokenRequest.getRefreshToken();
+        if (refreshToken == null) {
+            throw new AuthorizationException();
+        }
+        Instant authenticatedAt = refreshTokenProvider.now();
+        RefreshSession session = refreshTokenStore.remove(TokenDigests.sha256(refreshToken))
+                .filter(it -> !it.isExpiredAt(authenticatedAt))
+                .orElseThrow(AuthorizationException::new);
+        return issueTokens(session.getCustomerId(), session.getUsername(), authenticatedAt);
     }
 
-    private void checkInvalidLogin(String principal, String credentials) {
+    private TokenResponse issueTokens(Long customerId, String username, Instant authenticatedAt) {
+        String accessToken = jwtTokenProvider.createToken(username);
+        String refreshToken = refreshTokenProvider.createToken();
+        boolean saved = refreshTokenStore.save(TokenDigests.sha256(refreshToken),
+                new RefreshSession(customerId, username, refreshTokenProvider.expiration()), authenticatedAt);
+        if (!saved) {
+            throw new AuthorizationException();
+        }
+        return new TokenResponse(accessToken, refreshToken);
+    }
+
+    private Customer checkInvalidLogin(String principal, String credentials) {
         Customer customer = customerDao.findCustomerByUsername(principal)
                 .orElseThrow(() -> new InvalidArgumentRequestException("아이디를 확인해주세요."));
-        EncodePassword encodeCredentials = passwordEncoder.encode(new RawPassword(credentials));
-        customer.validatePassword(encodeCredentials);
+        RawPassword rawPassword = new RawPassword(credentials);
+        customer.validatePassword(rawPassword, passwordEncoder);
+        if (customer.needsPasswordUpgrade(passwordEncoder)) {
+            upgradePassword(customer, rawPassword);
+        }
+        return customer;
+    }
+
+    private void upgradePassword(Customer customer, RawPassword rawPassword) {
+        String upgradedPassword = passwordEncoder.encode(rawPassword).getPassword();
+        if (customerDao.updatePasswordIfUnchanged(upgradedPassword, customer.getUsername(), customer.getPassword())) {
+            customerCache.evict(customer.getUsername());
+        }
     }
 
+    @Transactional(readOnly = true)
     public Customer findCustomer(String token) {
         String username = jwtTokenProvider.getPayload(token);
-        return customerDao.findCustomerByUsername(username)
+        return customerCache.findCustomerByUsername(username)
                 .orElseThrow(InvalidCustomerException::new);
     }
 }
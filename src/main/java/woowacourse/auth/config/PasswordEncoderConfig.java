@@ -0,0 +1,35 @@
+package woowacourse.auth.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import woowacourse.auth.support.BoundedPasswordEncoder;
+import woowacourse.auth.support.DelegatingPasswordEncoder;
+import woowacourse.auth.support.HashPasswordEncoder;
+import woowacourse.auth.support.Pbkdf2PasswordEncoder;
+import woowacourse.auth.support.ScryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password.encoder:scrypt}") String encodingId,
+            @Value("${security.password.scrypt.cost:16384}") int scryptCost,
+            @Value("${security.password.scrypt.block-size:8}") int scryptBlockSize,
+            @Value("${security.password.scrypt.parallelization:1}") int scryptParallelization,
+            @Value("${security.password.pbkdf2.iterations:310000}") int pbkdf2Iterations,
+            @Value("${security.password.executor.threads:4}") int threads,
+            @Value("${security.password.executor.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.executor.timeout:5s}") Duration timeout) {
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encodingId, Map.of(
+                DelegatingPasswordEncoder.LEGACY_ID, new HashPasswordEncoder(),
+                Pbkdf2PasswordEncoder.ID, new Pbkdf2PasswordEncoder(pbkdf2Iterations),
+                ScryptPasswordEncoder.ID, new ScryptPasswordEncoder(scryptCost, scryptBlockSize, scryptParallelization)
+        ));
+        return new BoundedPasswordEncoder(passwordEncoder, threads, queueCapacity, timeout);
+    }
+}
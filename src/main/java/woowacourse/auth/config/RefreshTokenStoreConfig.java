@@ -0,0 +1,28 @@
+package woowacourse.auth.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import woowacourse.auth.support.InMemoryRefreshTokenStore;
+import woowacourse.auth.support.RefreshTokenStore;
+import woowacourse.shoppingcart.dao.RefreshTokenDao;
+
+@Configuration
+public class RefreshTokenStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "memory", matchIfMissing = true)
+    public InMemoryRefreshTokenStore inMemoryRefreshTokenStore(
+            @Value("${security.refresh-token.stripes:16}") int stripes,
+            @Value("${security.refresh-token.max-sessions-per-customer:10}") int maxSessionsPerCustomer) {
+        return new InMemoryRefreshTokenStore(stripes, maxSessionsPerCustomer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "jdbc")
+    public RefreshTokenStore jdbcRefreshTokenStore(JdbcTemplate jdbcTemplate) {
+        return new RefreshTokenDao(jdbcTemplate);
+    }
+}
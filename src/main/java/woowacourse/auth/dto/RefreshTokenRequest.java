@@ -0,0 +1,16 @@
+package woowacourse.auth.dto;
+
+public class RefreshTokenRequest {
+    private String refreshToken;
+
+    private RefreshTokenRequest() {
+    }
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+}
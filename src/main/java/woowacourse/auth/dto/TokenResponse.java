@@ -2,15 +2,21 @@ package woowacourse.auth.dto;
 
 public class TokenResponse {
     private String accessToken;
+    private String refreshToken;
 
     private TokenResponse() {
     }
 
-    public TokenResponse(String accessToken) {
+    public TokenResponse(String accessToken, String refreshToken) {
         this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
     }
 
     public String getAccessToken() {
         return accessToken;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
 }
@@ -0,0 +1,97 @@
+package woowacourse.auth.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+import woowacourse.shoppingcart.exception.PasswordHashingOverloadException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+    private static final String EXECUTOR_NAME = "password-hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    public BoundedPasswordEncoder(PasswordEncoder passwordEncoder, int threads, int queueCapacity, Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public EncodePassword encode(RawPassword rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(RawPassword rawPassword, EncodePassword encodePassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodePassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(EncodePassword encodePassword) {
+        return passwordEncoder.upgradeEncoding(encodePassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future = submit(task);
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingOverloadException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("비밀번호 암호화 과정 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingOverloadException();
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+    }
+}
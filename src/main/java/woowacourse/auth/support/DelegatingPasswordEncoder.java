@@ -0,0 +1,62 @@
+package woowacourse.auth.support;
+
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import java.util.Map;
+
+public class DelegatingPasswordEncoder implements PasswordEncoder {
+    public static final String LEGACY_ID = "sha256";
+
+    private static final String PREFIX = "{";
+    private static final String SUFFIX = "}";
+
+    private final String encodingId;
+    private final Map<String, PasswordEncoder> passwordEncoders;
+
+    public DelegatingPasswordEncoder(String encodingId, Map<String, PasswordEncoder> passwordEncoders) {
+        if (!passwordEncoders.containsKey(encodingId)) {
+            throw new IllegalArgumentException("등록되지 않은 비밀번호 암호화 방식입니다: " + encodingId);
+        }
+        this.encodingId = encodingId;
+        this.passwordEncoders = Map.copyOf(passwordEncoders);
+    }
+
+    @Override
+    public EncodePassword encode(RawPassword rawPassword) {
+        return passwordEncoders.get(encodingId).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(RawPassword rawPassword, EncodePassword encodePassword) {
+        return passwordEncoderOf(encodePassword).matches(rawPassword, encodePassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(EncodePassword encodePassword) {
+        String id = idOf(encodePassword);
+        if (!encodingId.equals(id)) {
+            return true;
+        }
+        return passwordEncoderOf(encodePassword).upgradeEncoding(encodePassword);
+    }
+
+    private PasswordEncoder passwordEncoderOf(EncodePassword encodePassword) {
+        String id = idOf(encodePassword);
+        PasswordEncoder passwordEncoder = passwordEncoders.get(id);
+        if (passwordEncoder == null) {
+            throw new IllegalStateException("지원하지 않는 비밀번호 암호화 방식입니다: " + id);
+        }
+        return passwordEncoder;
+    }
+
+    private String idOf(EncodePassword encodePassword) {
+        String password = encodePassword.getPassword();
+        int end = password.indexOf(SUFFIX);
+        if (!password.startsWith(PREFIX) || end < 0) {
+            return LEGACY_ID;
+        }
+        return password.substring(PREFIX.length(), end);
+    }
+}
@@ -1,31 +1,45 @@
 package woowacourse.auth.support;
 
-import org.springframework.stereotype.Component;
 import woowacourse.shoppingcart.domain.customer.EncodePassword;
 import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
 import woowacourse.shoppingcart.domain.customer.RawPassword;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
-@Component
 public class HashPasswordEncoder implements PasswordEncoder {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(HashPasswordEncoder::sha256);
+
     @Override
     public EncodePassword encode(RawPassword rawPassword) {
+        byte[] hash = SHA_256.get().digest(rawPassword.getPassword().getBytes(StandardCharsets.UTF_8));
+        return new EncodePassword(bytesToHex(hash));
+    }
+
+    @Override
+    public boolean matches(RawPassword rawPassword, EncodePassword encodePassword) {
+        byte[] expected = encodePassword.getPassword().getBytes(StandardCharsets.UTF_8);
+        byte[] actual = encode(rawPassword).getPassword().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private static MessageDigest sha256() {
         try {
-            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            messageDigest.update(rawPassword.getPassword().getBytes());
-            return new EncodePassword(bytesToHex(messageDigest.digest()));
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("비밀번호 암호화 과정 중 오류가 발생했습니다.");
         }
     }
 
     private String bytesToHex(byte[] encodedBytes) {
-        StringBuilder builder = new StringBuilder();
-        for (byte encodedByte : encodedBytes) {
-            builder.append(String.format("%02x", encodedByte));
+        char[] hex = new char[encodedBytes.length * 2];
+        for (int i = 0; i < encodedBytes.length; i++) {
+            int value = encodedBytes[i] & 0xff;
+            hex[i * 2] = HEX_DIGITS[value >>> 4];
+            hex[i * 2 + 1] = HEX_DIGITS[value & 0x0f];
         }
-        return builder.toString();
+        return new String(hex);
     }
 }
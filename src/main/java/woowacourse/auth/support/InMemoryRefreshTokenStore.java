@@ -0,0 +1,156 @@
+package woowacourse.auth.support;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, MeterBinder {
+    // 폐기 시점은 그 전에 시작된 로그인·재발급 요청이 끝날 때까지만 필요하다.
+    private static final Duration REVOCATION_RETENTION = Duration.ofMinutes(10);
+
+    private final Map<String, RefreshSession> sessions = new ConcurrentHashMap<>();
+    private final Stripe[] stripes;
+    private final int maxSessionsPerCustomer;
+
+    public InMemoryRefreshTokenStore(int stripeCount, int maxSessionsPerCustomer) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("리프레시 토큰 저장소의 스트라이프 수는 2의 거듭제곱이어야 합니다.");
+        }
+        if (maxSessionsPerCustomer <= 0) {
+            throw new IllegalArgumentException("회원별 리프레시 세션 수는 1 이상이어야 합니다.");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxSessionsPerCustomer = maxSessionsPerCustomer;
+    }
+
+    @Override
+    public boolean save(String tokenHash, RefreshSession session, Instant authenticatedAt) {
+        Long customerId = session.getCustomerId();
+        Stripe stripe = stripeOf(customerId);
+        synchronized (stripe) {
+            Instant revokedAt = stripe.revocations.get(customerId);
+            if (revokedAt != null && !authenticatedAt.isAfter(revokedAt)) {
+                return false;
+            }
+            Set<String> tokenHashes = stripe.tokenHashesByCustomer.computeIfAbsent(customerId, id -> new LinkedHashSet<>());
+            tokenHashes.add(tokenHash);
+            sessions.put(tokenHash, session);
+            evictOldest(tokenHashes);
+            return true;
+        }
+    }
+
+    private void evictOldest(Set<String> tokenHashes) {
+        Iterator<String> oldest = tokenHashes.iterator();
+        while (tokenHashes.size() > maxSessionsPerCustomer) {
+            sessions.remove(oldest.next());
+            oldest.remove();
+        }
+    }
+
+    @Override
+    public Optional<RefreshSession> remove(String tokenHash) {
+        RefreshSession session = sessions.get(tokenHash);
+        if (session == null) {
+            return Optional.empty();
+        }
+        Stripe stripe = stripeOf(session.getCustomerId());
+        synchronized (stripe) {
+            if (!sessions.remove(tokenHash, session)) {
+                return Optional.empty();
+            }
+            stripe.removeTokenHash(session.getCustomerId(), tokenHash);
+            return Optional.of(session);
+        }
+    }
+
+    @Override
+    public void removeByCustomerId(Long customerId, Instant revokedAt) {
+        Stripe stripe = stripeOf(customerId);
+        synchronized (stripe) {
+            stripe.revocations.merge(customerId, revokedAt, (previous, next) -> next.isAfter(previous) ? next : previous);
+            Set<String> tokenHashes = stripe.tokenHashesByCustomer.remove(customerId);
+            if (tokenHashes != null) {
+                tokenHashes.forEach(sessions::remove);
+            }
+        }
+    }
+
+    @Override
+    public int removeExpired(Instant now) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                removed += removeExpired(stripe, now);
+                stripe.revocations.values().removeIf(revokedAt -> revokedAt.plus(REVOCATION_RETENTION).isBefore(now));
+            }
+        }
+        return removed;
+    }
+
+    private int removeExpired(Stripe stripe, Instant now) {
+        int removed = 0;
+        Iterator<Set<String>> customers = stripe.tokenHashesByCustomer.values().iterator();
+        while (customers.hasNext()) {
+            Set<String> tokenHashes = customers.next();
+            Iterator<String> tokenHashIterator = tokenHashes.iterator();
+            while (tokenHashIterator.hasNext()) {
+                String tokenHash = tokenHashIterator.next();
+                if (sessions.get(tokenHash).isExpiredAt(now)) {
+                    sessions.remove(tokenHash);
+                    tokenHashIterator.remove();
+                    removed++;
+                }
+            }
+            if (tokenHashes.isEmpty()) {
+                customers.remove();
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private Stripe stripeOf(Long customerId) {
+        int hash = customerId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.refresh.sessions", this, InMemoryRefreshTokenStore::size)
+                .description("The number of refresh sessions held in memory")
+                .register(registry);
+    }
+
+    private static class Stripe {
+        private final Map<Long, Set<String>> tokenHashesByCustomer = new HashMap<>();
+        private final Map<Long, Instant> revocations = new HashMap<>();
+
+        private void removeTokenHash(Long customerId, String tokenHash) {
+            Set<String> tokenHashes = tokenHashesByCustomer.get(customerId);
+            if (tokenHashes == null) {
+                return;
+            }
+            tokenHashes.remove(tokenHash);
+            if (tokenHashes.isEmpty()) {
+                tokenHashesByCustomer.remove(customerId);
+            }
+        }
+    }
+}
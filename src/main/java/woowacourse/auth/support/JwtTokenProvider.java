@@ -2,23 +2,45 @@ package woowacourse.auth.support;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import woowacourse.shoppingcart.exception.AuthorizationException;
+import woowacourse.shoppingcart.support.ExpiringCache;
+import woowacourse.shoppingcart.support.ExpiringCacheMetrics;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
+    private static final String CACHE_NAME = "verified-token";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long validityInMilliseconds;
+    private final ExpiringCache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(final String secretKey, final long validityInMilliseconds) {
+        this(secretKey, validityInMilliseconds, false, 1, Duration.ofMinutes(1));
+    }
 
+    @Autowired
     public JwtTokenProvider(@Value("${security.jwt.token.secret-key}") final String secretKey,
-                            @Value("${security.jwt.token.expire-length}") final long validityInMilliseconds) {
+                            @Value("${security.jwt.token.expire-length}") final long validityInMilliseconds,
+                            @Value("${security.jwt.token.cache.enabled:false}") final boolean cacheEnabled,
+                            @Value("${security.jwt.token.cache.maximum-size:10000}") final int cacheMaximumSize,
+                            @Value("${security.jwt.token.cache.time-to-live:10m}") final Duration cacheTimeToLive) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(this.secretKey).build();
         this.validityInMilliseconds = validityInMilliseconds;
+        this.verifiedTokens = cacheEnabled ? new ExpiringCache<>(cacheMaximumSize, cacheTimeToLive) : null;
     }
 
     public String createToken(String payload) {
@@ -34,22 +56,52 @@ public class JwtTokenProvider {
     }
 
     public String getPayload(String token) {
-        if (!validateToken(token)) {
+        return verify(token).getSubject();
+    }
+
+    public VerifiedToken verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        return verifyWithCache(token);
+    }
+
+    private VerifiedToken verifyWithCache(String token) {
+        String key = TokenDigests.sha256(token);
+        VerifiedToken verifiedToken = verifiedTokens.get(key, ignored -> Optional.of(parse(token)))
+                .orElseThrow(AuthorizationException::new);
+        if (verifiedToken.isExpiredAt(Instant.now())) {
+            verifiedTokens.invalidate(key);
             throw new AuthorizationException();
         }
-        return getClaims(token).getBody().getSubject();
+        return verifiedToken;
     }
 
-    private boolean validateToken(String token) {
+    private VerifiedToken parse(String token) {
         try {
-            Jws<Claims> claims = getClaims(token);
-            return !claims.getBody().getExpiration().before(new Date());
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return toVerifiedToken(claims);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            throw new AuthorizationException();
+        }
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (claims.getSubject() == null || expiration == null) {
+            throw new AuthorizationException();
+        }
+        VerifiedToken verifiedToken = new VerifiedToken(claims.getSubject(), expiration.toInstant());
+        if (verifiedToken.isExpiredAt(Instant.now())) {
+            throw new AuthorizationException();
         }
+        return verifiedToken;
     }
 
-    private Jws<Claims> getClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (verifiedTokens != null) {
+            new ExpiringCacheMetrics(verifiedTokens, CACHE_NAME).bindTo(registry);
+        }
     }
 }
@@ -0,0 +1,82 @@
+package woowacourse.auth.support;
+
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+public class Pbkdf2PasswordEncoder implements PasswordEncoder {
+    public static final String ID = "pbkdf2";
+
+    private static final String PREFIX = "{" + ID + "}";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_LENGTH = 16;
+    private static final int KEY_LENGTH = 256;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final int iterations;
+
+    public Pbkdf2PasswordEncoder(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("PBKDF2 반복 횟수는 1 이상이어야 합니다.");
+        }
+        this.iterations = iterations;
+    }
+
+    @Override
+    public EncodePassword encode(RawPassword rawPassword) {
+        byte[] salt = new byte[SALT_LENGTH];
+        RANDOM.nextBytes(salt);
+        byte[] hash = hash(rawPassword, salt, iterations);
+        return new EncodePassword(PREFIX + iterations + "$" + toBase64(salt) + "$" + toBase64(hash));
+    }
+
+    @Override
+    public boolean matches(RawPassword rawPassword, EncodePassword encodePassword) {
+        String[] parts = parse(encodePassword);
+        byte[] salt = fromBase64(parts[1]);
+        byte[] expected = fromBase64(parts[2]);
+        return MessageDigest.isEqual(expected, hash(rawPassword, salt, Integer.parseInt(parts[0])));
+    }
+
+    @Override
+    public boolean upgradeEncoding(EncodePassword encodePassword) {
+        return Integer.parseInt(parse(encodePassword)[0]) < iterations;
+    }
+
+    private String[] parse(EncodePassword encodePassword) {
+        String password = encodePassword.getPassword();
+        if (password.startsWith(PREFIX)) {
+            String[] parts = password.substring(PREFIX.length()).split("\\$");
+            if (parts.length == 3) {
+                return parts;
+            }
+        }
+        throw new IllegalStateException("PBKDF2 암호화 비밀번호 형식이 올바르지 않습니다.");
+    }
+
+    private byte[] hash(RawPassword rawPassword, byte[] salt, int iterations) {
+        PBEKeySpec keySpec = new PBEKeySpec(rawPassword.getPassword().toCharArray(), salt, iterations, KEY_LENGTH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(keySpec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("비밀번호 암호화 과정 중 오류가 발생했습니다.");
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+
+    private String toBase64(byte[] bytes) {
+        return Base64.getEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private byte[] fromBase64(String value) {
+        return Base64.getDecoder().decode(value);
+    }
+}
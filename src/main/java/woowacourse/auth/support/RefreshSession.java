@@ -0,0 +1,31 @@
+package woowacourse.auth.support;
+
+import java.time.Instant;
+
+public class RefreshSession {
+    private final Long customerId;
+    private final String username;
+    private final Instant expiresAt;
+
+    public RefreshSession(Long customerId, String username, Instant expiresAt) {
+        this.customerId = customerId;
+        this.username = username;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
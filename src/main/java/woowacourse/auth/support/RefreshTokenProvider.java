@@ -0,0 +1,44 @@
+package woowacourse.auth.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+@Component
+public class RefreshTokenProvider {
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    @Autowired
+    public RefreshTokenProvider(@Value("${security.refresh-token.time-to-live:14d}") Duration timeToLive) {
+        this(timeToLive, Clock.systemUTC());
+    }
+
+    public RefreshTokenProvider(Duration timeToLive, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public String createToken() {
+        byte[] token = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(token);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    public Instant expiration() {
+        return now().plus(timeToLive);
+    }
+
+    public Instant now() {
+        return clock.instant();
+    }
+}
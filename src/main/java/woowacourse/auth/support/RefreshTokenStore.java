@@ -0,0 +1,14 @@
+package woowacourse.auth.support;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenStore {
+    boolean save(String tokenHash, RefreshSession session, Instant authenticatedAt);
+
+    Optional<RefreshSession> remove(String tokenHash);
+
+    void removeByCustomerId(Long customerId, Instant revokedAt);
+
+    int removeExpired(Instant now);
+}
@@ -0,0 +1,30 @@
+package woowacourse.auth.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RefreshTokenSweeper {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenSweeper.class);
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenProvider refreshTokenProvider;
+
+    public RefreshTokenSweeper(RefreshTokenStore refreshTokenStore, RefreshTokenProvider refreshTokenProvider) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.refreshTokenProvider = refreshTokenProvider;
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.sweep-interval:PT1M}",
+            initialDelayString = "${security.refresh-token.sweep-interval:PT1M}")
+    public void sweep() {
+        try {
+            int removed = refreshTokenStore.removeExpired(refreshTokenProvider.now());
+            log.debug("만료된 리프레시 토큰 {}개를 정리했습니다.", removed);
+        } catch (RuntimeException e) {
+            log.warn("만료된 리프레시 토큰을 정리하지 못했습니다.", e);
+        }
+    }
+}
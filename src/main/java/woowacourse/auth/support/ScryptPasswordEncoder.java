@@ -0,0 +1,87 @@
+package woowacourse.auth.support;
+
+import org.bouncycastle.crypto.generators.SCrypt;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+public class ScryptPasswordEncoder implements PasswordEncoder {
+    public static final String ID = "scrypt";
+
+    private static final String PREFIX = "{" + ID + "}";
+    private static final int SALT_LENGTH = 16;
+    private static final int KEY_LENGTH = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final int cost;
+    private final int blockSize;
+    private final int parallelization;
+
+    public ScryptPasswordEncoder(int cost, int blockSize, int parallelization) {
+        if (cost <= 1 || Integer.bitCount(cost) != 1) {
+            throw new IllegalArgumentException("scrypt cost는 1보다 큰 2의 거듭제곱이어야 합니다.");
+        }
+        if (blockSize < 1 || parallelization < 1) {
+            throw new IllegalArgumentException("scrypt block size와 parallelization은 1 이상이어야 합니다.");
+        }
+        this.cost = cost;
+        this.blockSize = blockSize;
+        this.parallelization = parallelization;
+    }
+
+    @Override
+    public EncodePassword encode(RawPassword rawPassword) {
+        byte[] salt = new byte[SALT_LENGTH];
+        RANDOM.nextBytes(salt);
+        byte[] hash = hash(rawPassword, salt, cost, blockSize, parallelization);
+        return new EncodePassword(PREFIX + cost + "$" + blockSize + "$" + parallelization
+                + "$" + toBase64(salt) + "$" + toBase64(hash));
+    }
+
+    @Override
+    public boolean matches(RawPassword rawPassword, EncodePassword encodePassword) {
+        String[] parts = parse(encodePassword);
+        byte[] salt = fromBase64(parts[3]);
+        byte[] expected = fromBase64(parts[4]);
+        byte[] actual = hash(rawPassword, salt,
+                Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    @Override
+    public boolean upgradeEncoding(EncodePassword encodePassword) {
+        String[] parts = parse(encodePassword);
+        return Integer.parseInt(parts[0]) < cost
+                || Integer.parseInt(parts[1]) < blockSize
+                || Integer.parseInt(parts[2]) < parallelization;
+    }
+
+    private String[] parse(EncodePassword encodePassword) {
+        String password = encodePassword.getPassword();
+        if (password.startsWith(PREFIX)) {
+            String[] parts = password.substring(PREFIX.length()).split("\\$");
+            if (parts.length == 5) {
+                return parts;
+            }
+        }
+        throw new IllegalStateException("scrypt 암호화 비밀번호 형식이 올바르지 않습니다.");
+    }
+
+    private byte[] hash(RawPassword rawPassword, byte[] salt, int cost, int blockSize, int parallelization) {
+        byte[] password = rawPassword.getPassword().getBytes(StandardCharsets.UTF_8);
+        return SCrypt.generate(password, salt, cost, blockSize, parallelization, KEY_LENGTH);
+    }
+
+    private String toBase64(byte[] bytes) {
+        return Base64.getEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private byte[] fromBase64(String value) {
+        return Base64.getDecoder().decode(value);
+    }
+}
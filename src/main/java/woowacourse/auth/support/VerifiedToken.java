@@ -0,0 +1,25 @@
+package woowacourse.auth.support;
+
+import java.time.Instant;
+
+public class VerifiedToken {
+    private final String subject;
+    private final Instant expiration;
+
+    public VerifiedToken(final String subject, final Instant expiration) {
+        this.subject = subject;
+        this.expiration = expiration;
+    }
+
+    public boolean isExpiredAt(final Instant now) {
+        return !now.isBefore(expiration);
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Instant getExpiration() {
+        return expiration;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import woowacourse.auth.application.AuthService;
+import woowacourse.auth.dto.RefreshTokenRequest;
 import woowacourse.auth.dto.TokenRequest;
 import woowacourse.auth.dto.TokenResponse;
 
@@ -21,4 +22,10 @@ public class AuthController {
         TokenResponse tokenResponse = authService.createToken(tokenRequest);
         return ResponseEntity.ok(tokenResponse);
     }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody RefreshTokenRequest refreshTokenRequest) {
+        TokenResponse tokenResponse = authService.refreshToken(refreshTokenRequest);
+        return ResponseEntity.ok(tokenResponse);
+    }
 }
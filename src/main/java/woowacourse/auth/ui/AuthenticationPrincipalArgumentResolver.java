@@ -8,6 +8,8 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import woowacourse.auth.application.AuthService;
 import woowacourse.auth.support.AuthenticationPrincipal;
 import woowacourse.auth.support.AuthorizationExtractor;
+import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.support.RequestTimings;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -26,8 +28,13 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        long startNanos = System.nanoTime();
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
         String accessToken = AuthorizationExtractor.extract(request);
-        return authService.findCustomer(accessToken);
+        Customer customer = authService.findCustomer(accessToken);
+        RequestTimings.from(request)
+                .ifPresent(timings -> timings.recordAuthentication(customer.getUsername(),
+                        System.nanoTime() - startNanos));
+        return customer;
     }
 }
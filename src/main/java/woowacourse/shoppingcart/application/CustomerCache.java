@@ -0,0 +1,42 @@
+package woowacourse.shoppingcart.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.support.CacheEvictions;
+import woowacourse.shoppingcart.support.ExpiringCache;
+import woowacourse.shoppingcart.support.ExpiringCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class CustomerCache implements MeterBinder {
+    private static final String CACHE_NAME = "customer";
+
+    private final CustomerDao customerDao;
+    private final ExpiringCache<String, Customer> cache;
+
+    public CustomerCache(final CustomerDao customerDao,
+                         @Value("${shoppingcart.cache.customer.maximum-size:10000}") final int maximumSize,
+                         @Value("${shoppingcart.cache.customer.time-to-live:30s}") final Duration timeToLive) {
+        this.customerDao = customerDao;
+        this.cache = new ExpiringCache<>(maximumSize, timeToLive);
+    }
+
+    public Optional<Customer> findCustomerByUsername(final String username) {
+        return cache.get(username, customerDao::findCustomerByUsername);
+    }
+
+    public void evict(final String username) {
+        CacheEvictions.evictNowAndAfterCommit(cache, username);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        new ExpiringCacheMetrics(cache, CACHE_NAME).bindTo(registry);
+    }
+}
@@ -1,7 +1,11 @@
 package woowacourse.shoppingcart.application;
 
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import woowacourse.auth.support.RefreshTokenProvider;
+import woowacourse.auth.support.RefreshTokenStore;
 import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.domain.customer.*;
 import woowacourse.shoppingcart.dto.CustomerRequest;
@@ -9,15 +13,28 @@ import woowacourse.shoppingcart.dto.PasswordRequest;
 import woowacourse.shoppingcart.dto.UsernameDuplicationResponse;
 import woowacourse.shoppingcart.exception.InvalidArgumentRequestException;
 
-@Transactional(rollbackFor = Exception.class)
 @Service
 public class CustomerService {
+    private static final String DUPLICATE_USERNAME_MESSAGE = "기존 회원 아이디와 중복되는 아이디입니다.";
+
     private final CustomerDao customerDao;
     private final PasswordEncoder passwordEncoder;
+    private final UsernameFilter usernameFilter;
+    private final CustomerCache customerCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final TransactionTemplate transactionTemplate;
 
-    public CustomerService(CustomerDao customerDao, PasswordEncoder passwordEncoder) {
+    public CustomerService(CustomerDao customerDao, PasswordEncoder passwordEncoder, UsernameFilter usernameFilter,
+                           CustomerCache customerCache, RefreshTokenStore refreshTokenStore,
+                           RefreshTokenProvider refreshTokenProvider, TransactionTemplate transactionTemplate) {
         this.customerDao = customerDao;
         this.passwordEncoder = passwordEncoder;
+        this.usernameFilter = usernameFilter;
+        this.customerCache = customerCache;
+        this.refreshTokenStore = refreshTokenStore;
+        this.refreshTokenProvider = refreshTokenProvider;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public void addCustomer(CustomerRequest customerRequest) {
@@ -27,12 +44,17 @@ public class CustomerService {
                 customerRequest.getUsername(), passwordEncoder.encode(rawPassword),
                 customerRequest.getNickname(), customerRequest.getAge()
         );
-        customerDao.save(customer);
+        try {
+            customerDao.save(customer);
+        } catch (DuplicateKeyException e) {
+            throw new InvalidArgumentRequestException(DUPLICATE_USERNAME_MESSAGE);
+        }
+        usernameFilter.registerAfterCommit(customer.getUsername());
     }
 
     private void validateUsername(CustomerRequest customerRequest) {
         if (isDuplicateUsername(customerRequest.getUsername())) {
-            throw new InvalidArgumentRequestException("기존 회원 아이디와 중복되는 아이디입니다.");
+            throw new InvalidArgumentRequestException(DUPLICATE_USERNAME_MESSAGE);
         }
     }
 
@@ -43,29 +65,36 @@ public class CustomerService {
     }
 
     private boolean isDuplicateUsername(String username) {
-        Usernames usernames = Usernames.from(customerDao.findAllUserNames());
-        return usernames.contains(username);
+        Username checkUsername = new Username(username);
+        return usernameFilter.isRegistered(checkUsername.getUsername());
     }
 
     public void updatePassword(Customer customer, PasswordRequest passwordRequest) {
         validateCorrectPassword(customer, passwordRequest.getOldPassword());
         EncodePassword encodePassword = passwordEncoder.encode(new RawPassword(passwordRequest.getNewPassword()));
         Customer updateCustomer = customer.updatePassword(encodePassword);
-        customerDao.updatePassword(updateCustomer.getPassword(), customer.getUsername());
+        transactionTemplate.executeWithoutResult(status -> {
+            customerDao.updatePassword(updateCustomer.getPassword(), customer.getUsername());
+            customerCache.evict(customer.getUsername());
+            refreshTokenStore.removeByCustomerId(customer.getId(), refreshTokenProvider.now());
+        });
     }
 
     private void validateCorrectPassword(Customer customer, String oldPassword) {
-        EncodePassword encodeOldPassword = passwordEncoder.encode(new RawPassword(oldPassword));
-        if (!customer.getPassword().equals(encodeOldPassword.getPassword())) {
-            throw new InvalidArgumentRequestException("비밀번호가 일치하지 않습니다.");
-        }
+        customer.validatePassword(new RawPassword(oldPassword), passwordEncoder);
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public void updateInfo(Customer customer, CustomerRequest customerRequest) {
         customerDao.updateInfo(customer.getUsername(), customerRequest.getNickname(), customerRequest.getAge());
+        customerCache.evict(customer.getUsername());
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public void deleteCustomer(Customer customer) {
         customerDao.delete(customer);
+        customerCache.evict(customer.getUsername());
+        refreshTokenStore.removeByCustomerId(customer.getId(), refreshTokenProvider.now());
+        usernameFilter.unregister(customer.getUsername());
     }
 }
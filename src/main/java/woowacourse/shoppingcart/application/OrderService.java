@@ -6,10 +6,18 @@ import woowacourse.shoppingcart.dao.CartDao;
 import woowacourse.shoppingcart.dao.OrderDao;
 import woowacourse.shoppingcart.dao.OrdersDetailDao;
 import woowacourse.shoppingcart.domain.CartItem;
-import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.Orders;
+import woowacourse.shoppingcart.domain.PageSize;
+import woowacourse.shoppingcart.dto.OrderResponse;
+import woowacourse.shoppingcart.dto.OrdersResponse;
+import woowacourse.shoppingcart.exception.InvalidOrderException;
 import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Transactional(rollbackFor = Exception.class)
 @Service
@@ -25,21 +33,44 @@ public class OrderService {
         this.cartDao = cartDao;
     }
 
-    public Long addOrder(final List<Long> productIds, final String customerUsername) {
-        validateCustomerCart(customerUsername, productIds);
-        final Long orderId = orderDao.addOrders(customerUsername);
-        for (Long productId : productIds) {
-            final CartItem cartItem = cartDao.findCartItemByProductId(productId, customerUsername)
-                    .orElseThrow(InvalidCartItemException::new);
-            ordersDetailDao.addOrdersDetail(orderId, productId, cartItem.getQuantity());
-        }
+    public Long addOrder(final List<Long> productIds, final Long customerId) {
+        final List<Long> distinctProductIds = productIds.stream()
+                .distinct()
+                .collect(Collectors.toList());
+        final Map<Long, CartItem> cartItems = findCustomerCartItems(distinctProductIds, customerId);
+
+        final Long orderId = orderDao.addOrders(customerId);
+        final List<OrderDetail> orderDetails = distinctProductIds.stream()
+                .map(productId -> new OrderDetail(productId, cartItems.get(productId).getQuantity()))
+                .collect(Collectors.toList());
+        ordersDetailDao.addOrdersDetails(orderId, orderDetails);
         return orderId;
     }
 
-    private void validateCustomerCart(final String customerUsername, final List<Long> productIdsToOrder) {
-        final List<Long> productIds = cartDao.findProductIdsByCustomerUsername(customerUsername);
-        if (!productIds.containsAll(productIdsToOrder)) {
+    private Map<Long, CartItem> findCustomerCartItems(final List<Long> productIds, final Long customerId) {
+        final List<CartItem> cartItems = cartDao.findCartItemsByProductIds(productIds, customerId);
+        if (cartItems.size() != productIds.size()) {
             throw new NotInCustomerCartItemException();
         }
+        return cartItems.stream()
+                .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getId(), Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
+    public OrdersResponse findOrders(final Long customerId, final Long cursor, final int size) {
+        final PageSize pageSize = new PageSize(size);
+        final List<Orders> fetched =
+                orderDao.findOrdersAfter(customerId, PageSize.startCursor(cursor), pageSize.getFetchSize());
+        final List<OrderResponse> orderResponses = pageSize.slice(fetched).stream()
+                .map(OrderResponse::from)
+                .collect(Collectors.toUnmodifiableList());
+        return new OrdersResponse(orderResponses, pageSize.nextCursor(fetched, Orders::getId));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderResponse findOrder(final Long customerId, final Long orderId) {
+        final Orders orders = orderDao.findOrderById(customerId, orderId)
+                .orElseThrow(() -> new InvalidOrderException("존재하지 않는 주문입니다."));
+        return OrderResponse.from(orders);
     }
 }
@@ -0,0 +1,42 @@
+package woowacourse.shoppingcart.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.support.CacheEvictions;
+import woowacourse.shoppingcart.support.ExpiringCache;
+import woowacourse.shoppingcart.support.ExpiringCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class ProductCache implements MeterBinder {
+    private static final String CACHE_NAME = "product";
+
+    private final ProductDao productDao;
+    private final ExpiringCache<Long, Product> cache;
+
+    public ProductCache(final ProductDao productDao,
+                        @Value("${shoppingcart.cache.product.maximum-size:10000}") final int maximumSize,
+                        @Value("${shoppingcart.cache.product.time-to-live:10m}") final Duration timeToLive) {
+        this.productDao = productDao;
+        this.cache = new ExpiringCache<>(maximumSize, timeToLive);
+    }
+
+    public Optional<Product> findProductById(final Long productId) {
+        return cache.get(productId, productDao::findProductById);
+    }
+
+    public void evict(final Long productId) {
+        CacheEvictions.evictNowAndAfterCommit(cache, productId);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        new ExpiringCacheMetrics(cache, CACHE_NAME).bindTo(registry);
+    }
+}
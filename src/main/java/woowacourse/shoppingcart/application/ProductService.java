@@ -3,6 +3,7 @@ package woowacourse.shoppingcart.application;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.PageSize;
 import woowacourse.shoppingcart.domain.Product;
 import woowacourse.shoppingcart.dto.ProductRequest;
 import woowacourse.shoppingcart.dto.ProductResponse;
@@ -10,40 +11,52 @@ import woowacourse.shoppingcart.dto.ProductsResponse;
 import woowacourse.shoppingcart.exception.InvalidProductException;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Transactional(rollbackFor = Exception.class)
 @Service
 public class ProductService {
     private final ProductDao productDao;
+    private final ProductCache productCache;
 
-    public ProductService(final ProductDao productDao) {
+    public ProductService(final ProductDao productDao, final ProductCache productCache) {
         this.productDao = productDao;
+        this.productCache = productCache;
     }
 
     public Long addProduct(final ProductRequest productRequest) {
         Product product =
                 new Product(productRequest.getName(), productRequest.getPrice(), productRequest.getThumbnail());
-        return productDao.save(product);
+        Long productId = productDao.save(product);
+        productCache.evict(productId);
+        return productId;
     }
 
     @Transactional(readOnly = true)
-    public ProductsResponse findProducts() {
-        List<Product> products = productDao.findProducts();
-        List<ProductResponse> productResponses = products.stream()
+    public ProductsResponse findProducts(final Long cursor, final int size) {
+        PageSize pageSize = new PageSize(size);
+        List<Product> fetched = productDao.findProductsAfter(PageSize.startCursor(cursor), pageSize.getFetchSize());
+        List<ProductResponse> productResponses = pageSize.slice(fetched).stream()
                 .map(ProductResponse::from)
                 .collect(Collectors.toUnmodifiableList());
-        return new ProductsResponse(productResponses);
+        return new ProductsResponse(productResponses, pageSize.nextCursor(fetched, Product::getId));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportProducts(final Consumer<ProductResponse> consumer) {
+        productDao.streamProducts(product -> consumer.accept(ProductResponse.from(product)));
     }
 
     @Transactional(readOnly = true)
     public ProductResponse findProductById(final Long productId) {
-        Product product = productDao.findProductById(productId)
+        Product product = productCache.findProductById(productId)
                 .orElseThrow(() -> new InvalidProductException("존재하지 않는 상품입니다."));
         return ProductResponse.from(product);
     }
 
     public void deleteProductById(final Long productId) {
         productDao.delete(productId);
+        productCache.evict(productId);
     }
 }
@@ -0,0 +1,162 @@
+package woowacourse.shoppingcart.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.support.BloomFilter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class UsernameFilter implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(UsernameFilter.class);
+    private static final long MIN_EXPECTED_INSERTIONS = 1_024;
+    private static final int GROWTH_FACTOR = 2;
+
+    private final CustomerDao customerDao;
+    private final double falsePositiveRate;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private final Object lock = new Object();
+
+    private final LongAdder definitelyAbsentCount = new LongAdder();
+    private final LongAdder possiblyPresentCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+    private final LongAdder deletedSinceRebuildCount = new LongAdder();
+
+    private volatile BloomFilter filter;
+    private volatile Instant filterBuiltAt;
+    private List<String> registeredDuringRebuild;
+
+    @Autowired
+    public UsernameFilter(final CustomerDao customerDao,
+                          @Value("${shoppingcart.username-filter.false-positive-rate:0.01}")
+                          final double falsePositiveRate,
+                          @Value("${shoppingcart.username-filter.max-staleness:PT1H}")
+                          final Duration maxStaleness) {
+        this(customerDao, falsePositiveRate, maxStaleness, Clock.systemUTC());
+    }
+
+    public UsernameFilter(final CustomerDao customerDao, final double falsePositiveRate, final Duration maxStaleness,
+                          final Clock clock) {
+        this.customerDao = customerDao;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    public boolean isRegistered(final String username) {
+        final BloomFilter current = filter;
+        if (current != null && isFresh() && !current.mightContain(username)) {
+            definitelyAbsentCount.increment();
+            return false;
+        }
+        possiblyPresentCount.increment();
+        final boolean registered = customerDao.existsByUsername(username);
+        if (current != null && !registered) {
+            falsePositiveCount.increment();
+        }
+        return registered;
+    }
+
+    // 다른 인스턴스에서 가입한 아이디는 다음 재생성 전까지 필터에 없으므로, 오래된 필터의 부재 판정은 DB로 확인한다.
+    private boolean isFresh() {
+        return clock.instant().isBefore(filterBuiltAt.plus(maxStaleness));
+    }
+
+    public void registerAfterCommit(final String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(username);
+            }
+        });
+    }
+
+    public void register(final String username) {
+        synchronized (lock) {
+            if (filter != null) {
+                filter.put(username);
+            }
+            if (registeredDuringRebuild != null) {
+                registeredDuringRebuild.add(username);
+            }
+        }
+    }
+
+    public void unregister(final String username) {
+        deletedSinceRebuildCount.increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${shoppingcart.username-filter.rebuild-interval:PT1H}",
+            initialDelayString = "${shoppingcart.username-filter.rebuild-interval:PT1H}")
+    public void rebuild() {
+        final long expectedInsertions = Math.max(MIN_EXPECTED_INSERTIONS, customerDao.countCustomers() * GROWTH_FACTOR);
+        final BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        final Instant scanStartedAt = clock.instant();
+        synchronized (lock) {
+            registeredDuringRebuild = new ArrayList<>();
+        }
+        try {
+            customerDao.streamUsernames(next::put);
+            synchronized (lock) {
+                registeredDuringRebuild.forEach(next::put);
+                filterBuiltAt = scanStartedAt;
+                filter = next;
+                deletedSinceRebuildCount.reset();
+            }
+        } catch (RuntimeException e) {
+            log.warn("아이디 필터를 다시 만들지 못해 기존 필터를 유지합니다.", e);
+        } finally {
+            synchronized (lock) {
+                registeredDuringRebuild = null;
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("username.filter.checks", definitelyAbsentCount, LongAdder::sum)
+                .tag("result", "definitely_absent")
+                .register(registry);
+        FunctionCounter.builder("username.filter.checks", possiblyPresentCount, LongAdder::sum)
+                .tag("result", "possibly_present")
+                .register(registry);
+        FunctionCounter.builder("username.filter.false.positives", falsePositiveCount, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("username.filter.expected.false.positive.rate", this, UsernameFilter::expectedFalsePositiveRate)
+                .register(registry);
+        Gauge.builder("username.filter.deleted.since.rebuild", deletedSinceRebuildCount, LongAdder::sum)
+                .register(registry);
+    }
+
+    private double expectedFalsePositiveRate() {
+        final BloomFilter current = filter;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return current.expectedFalsePositiveRate();
+    }
+}
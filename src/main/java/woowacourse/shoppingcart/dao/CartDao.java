@@ -6,10 +6,12 @@ import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import woowacourse.shoppingcart.domain.CartItem;
 import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.InvalidProductException;
 
 import java.util.List;
 import java.util.Map;
@@ -28,25 +30,28 @@ public class CartDao {
     );
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert simpleCartItemJdbcInsert;
 
     public CartDao(final JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
-        this.simpleCartItemJdbcInsert = new SimpleJdbcInsert(jdbcTemplate)
-                .withTableName("cart_item")
-                .usingGeneratedKeyColumns("id");
     }
 
-    public Long addCartItem(final String customerUsername, final Long productId) {
+    public Long addCartItem(final Long customerId, final Long productId) {
+        final String sql = "INSERT INTO cart_item (customer_id, product_id, quantity) " +
+                "SELECT :customer_id, id, :quantity FROM product WHERE id = :product_id";
         final SqlParameterSource sqlParameterSource =
-                new MapSqlParameterSource("customer_username", customerUsername)
+                new MapSqlParameterSource("customer_id", customerId)
                         .addValue("product_id", productId)
                         .addValue("quantity", DEFAULT_ADD_ITEM_QUANTITY);
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
 
-        return simpleCartItemJdbcInsert.executeAndReturnKey(sqlParameterSource).longValue();
+        final int rowCount = jdbcTemplate.update(sql, sqlParameterSource, keyHolder, new String[]{"id"});
+        if (rowCount == 0) {
+            throw new InvalidProductException();
+        }
+        return keyHolder.getKey().longValue();
     }
 
-    public List<CartItem> findCartItemsByCustomerUsername(final String customerUsername) {
+    public List<CartItem> findCartItemsByCustomerId(final Long customerId) {
         final String sql = "SELECT product.id as id, " +
                 "product.name as name, " +
                 "product.price as price, " +
@@ -55,19 +60,19 @@ public class CartDao {
                 "FROM cart_item " +
                 "INNER JOIN product " +
                 "ON cart_item.product_id = product.id " +
-                "WHERE cart_item.customer_username = :customerUsername";
+                "WHERE cart_item.customer_id = :customer_id";
 
-        return jdbcTemplate.query(sql, Map.of("customerUsername", customerUsername), CART_ROW_MAPPER);
+        return jdbcTemplate.query(sql, Map.of("customer_id", customerId), CART_ROW_MAPPER);
     }
 
-    public List<Long> findProductIdsByCustomerUsername(final String customerUsername) {
-        final String sql = "SELECT product_id FROM cart_item WHERE customer_username = :customer_username";
+    public List<Long> findProductIdsByCustomerId(final Long customerId) {
+        final String sql = "SELECT product_id FROM cart_item WHERE customer_id = :customer_id";
 
-        return jdbcTemplate.query(sql, Map.of("customer_username", customerUsername),
+        return jdbcTemplate.query(sql, Map.of("customer_id", customerId),
                 (rs, rowNum) -> rs.getLong("product_id"));
     }
 
-    public Optional<CartItem> findCartItemByProductId(final Long productId, final String customerUsername) {
+    public Optional<CartItem> findCartItemByProductId(final Long productId, final Long customerId) {
         try {
             final String sql = "SELECT product.id as id, " +
                     "product.name as name, " +
@@ -77,10 +82,10 @@ public class CartDao {
                     "FROM cart_item " +
                     "INNER JOIN product " +
                     "ON cart_item.product_id = product.id " +
-                    "WHERE cart_item.product_id = :product_id and cart_item.customer_username = :customer_username";
+                    "WHERE cart_item.product_id = :product_id and cart_item.customer_id = :customer_id";
 
             final SqlParameterSource sqlParameterSource = new MapSqlParameterSource("product_id", productId)
-                    .addValue("customer_username", customerUsername);
+                    .addValue("customer_id", customerId);
 
             return Optional.ofNullable(jdbcTemplate.queryForObject(sql, sqlParameterSource, CART_ROW_MAPPER));
         } catch (EmptyResultDataAccessException e) {
@@ -88,12 +93,32 @@ public class CartDao {
         }
     }
 
-    public void updateCartItemQuantity(final int quantity, final Long productId, final String customerUsername) {
+    public List<CartItem> findCartItemsByProductIds(final List<Long> productIds, final Long customerId) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        final String sql = "SELECT product.id as id, " +
+                "product.name as name, " +
+                "product.price as price, " +
+                "product.thumbnail as thumbnail, " +
+                "cart_item.quantity as quantity " +
+                "FROM cart_item " +
+                "INNER JOIN product " +
+                "ON cart_item.product_id = product.id " +
+                "WHERE cart_item.product_id in (:product_ids) and cart_item.customer_id = :customer_id";
+
+        final SqlParameterSource sqlParameterSource = new MapSqlParameterSource("product_ids", productIds)
+                .addValue("customer_id", customerId);
+
+        return jdbcTemplate.query(sql, sqlParameterSource, CART_ROW_MAPPER);
+    }
+
+    public void updateCartItemQuantity(final int quantity, final Long productId, final Long customerId) {
         final String sql = "UPDATE cart_item SET quantity = :quantity WHERE product_id = :product_id " +
-                "and customer_username = :customer_username";
+                "and customer_id = :customer_id";
         final SqlParameterSource sqlParameterSource = new MapSqlParameterSource("quantity", quantity)
                 .addValue("product_id", productId)
-                .addValue("customer_username", customerUsername);
+                .addValue("customer_id", customerId);
 
         final int rowCount = jdbcTemplate.update(sql, sqlParameterSource);
         if (rowCount == 0) {
@@ -101,22 +126,22 @@ public class CartDao {
         }
     }
 
-    public void deleteCartItem(final List<Long> productIds, final String customerUsername) {
+    public int deleteCartItem(final List<Long> productIds, final Long customerId) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
         final String sql =
-                "DELETE FROM cart_item WHERE product_id in (:product_ids) and customer_username = :customer_username";
+                "DELETE FROM cart_item WHERE product_id in (:product_ids) and customer_id = :customer_id";
 
         final SqlParameterSource sqlParameterSource = new MapSqlParameterSource("product_ids", productIds)
-                .addValue("customer_username", customerUsername);
-        final int rowCount = jdbcTemplate.update(sql, sqlParameterSource);
-        if (rowCount == 0) {
-            throw new InvalidCartItemException();
-        }
+                .addValue("customer_id", customerId);
+        return jdbcTemplate.update(sql, sqlParameterSource);
     }
 
-    public void deleteAllCartItems(final String customerUsername) {
-        final String sql = "DELETE FROM cart_item WHERE customer_username = :customer_username";
+    public void deleteAllCartItems(final Long customerId) {
+        final String sql = "DELETE FROM cart_item WHERE customer_id = :customer_id";
 
-        final int rowCount = jdbcTemplate.update(sql, Map.of("customer_username", customerUsername));
+        final int rowCount = jdbcTemplate.update(sql, Map.of("customer_id", customerId));
         if (rowCount == 0) {
             throw new InvalidCartItemException();
         }
@@ -2,6 +2,7 @@ package woowacourse.shoppingcart.dao;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -11,14 +12,18 @@ import woowacourse.shoppingcart.domain.customer.EncodePassword;
 import woowacourse.shoppingcart.exception.InvalidCustomerException;
 
 import java.sql.PreparedStatement;
-import java.util.List;
+import java.sql.ResultSet;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class CustomerDao {
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
     private static final RowMapper<Customer> CUSTOMER_ROW_MAPPER = (resultSet, rowNum) -> Customer.of(
+            resultSet.getLong("id"),
             resultSet.getString("username"),
             new EncodePassword(resultSet.getString("password")),
             resultSet.getString("nickname"),
@@ -56,13 +61,28 @@ public class CustomerDao {
         }
     }
 
-    public List<String> findAllUserNames() {
-        String sql = "SELECT username FROM customer";
-        return jdbcTemplate.queryForList(sql, String.class);
+    public boolean existsByUsername(String username) {
+        final String sql = "SELECT EXISTS (SELECT 1 FROM customer WHERE username = ?)";
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, username));
+    }
+
+    public long countCustomers() {
+        final String sql = "SELECT COUNT(*) FROM customer";
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(sql, Long.class));
+    }
+
+    public void streamUsernames(final Consumer<String> consumer) {
+        final String sql = "SELECT username FROM customer";
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement preparedStatement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(STREAM_FETCH_SIZE);
+            return preparedStatement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getString("username")));
     }
 
     public Optional<Customer> findCustomerByUsername(String username) {
-        final String sql = "SELECT username, password, nickname, age FROM customer WHERE username = ?";
+        final String sql = "SELECT id, username, password, nickname, age FROM customer WHERE username = ?";
         try {
             return Optional.of(jdbcTemplate.queryForObject(sql, CUSTOMER_ROW_MAPPER, username));
         } catch (final EmptyResultDataAccessException e) {
@@ -76,6 +96,11 @@ public class CustomerDao {
         validateUpdated(updated);
     }
 
+    public boolean updatePasswordIfUnchanged(String updatePassword, String username, String currentPassword) {
+        final String sql = "UPDATE customer SET password = ? WHERE username = ? AND password = ?";
+        return jdbcTemplate.update(sql, updatePassword, username, currentPassword) > 0;
+    }
+
     public void updateInfo(String username, String updateNickname, int updateAge) {
         final String sql = "UPDATE customer SET nickname = ?, age = ? WHERE username = ?";
         int updated = jdbcTemplate.update(sql, updateNickname, updateAge, username);
@@ -1,15 +1,51 @@
 package woowacourse.shoppingcart.dao;
 
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.Orders;
+
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 public class OrderDao {
+    private static final String ORDERS_WITH_DETAILS_SQL = "SELECT orders.id as orders_id, " +
+            "orders_detail.product_id as product_id, " +
+            "orders_detail.quantity as quantity, " +
+            "product.name as name, " +
+            "product.price as price, " +
+            "product.thumbnail as thumbnail " +
+            "FROM (%s) orders " +
+            "LEFT JOIN orders_detail ON orders_detail.orders_id = orders.id " +
+            "LEFT JOIN product ON product.id = orders_detail.product_id " +
+            "ORDER BY orders.id, orders_detail.id";
+
+    private static final ResultSetExtractor<List<Orders>> ORDERS_EXTRACTOR = resultSet -> {
+        final Map<Long, List<OrderDetail>> orderDetails = new LinkedHashMap<>();
+        while (resultSet.next()) {
+            final List<OrderDetail> details =
+                    orderDetails.computeIfAbsent(resultSet.getLong("orders_id"), id -> new ArrayList<>());
+            final long productId = resultSet.getLong("product_id");
+            if (!resultSet.wasNull()) {
+                details.add(toOrderDetail(productId, resultSet));
+            }
+        }
+        return orderDetails.entrySet().stream()
+                .map(entry -> new Orders(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    };
 
     private final JdbcTemplate jdbcTemplate;
 
@@ -17,20 +53,43 @@ public class OrderDao {
         this.jdbcTemplate = jdbcTemplate;
     }
 
-    public Long addOrders(final String customerUsername) {
-        final String sql = "INSERT INTO orders (customer_username) VALUES (?)";
+    public Long addOrders(final Long customerId) {
+        final String sql = "INSERT INTO orders (customer_id) VALUES (?)";
         final KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(con -> {
             PreparedStatement preparedStatement = con.prepareStatement(sql, new String[]{"id"});
-            preparedStatement.setString(1, customerUsername);
+            preparedStatement.setLong(1, customerId);
             return preparedStatement;
         }, keyHolder);
         return keyHolder.getKey().longValue();
     }
 
-    public List<Long> findOrderIdsByCustomerUsername(final String customerUsername) {
-        final String sql = "SELECT id FROM orders WHERE customer_username = ? ";
-        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("id"), customerUsername);
+    public List<Long> findOrderIdsByCustomerId(final Long customerId) {
+        final String sql = "SELECT id FROM orders WHERE customer_id = ? ";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("id"), customerId);
+    }
+
+    public List<Orders> findOrdersAfter(final Long customerId, final Long cursor, final int limit) {
+        final String sql = String.format(ORDERS_WITH_DETAILS_SQL,
+                "SELECT id FROM orders WHERE customer_id = ? AND id > ? ORDER BY id LIMIT ?");
+        return jdbcTemplate.query(sql, ORDERS_EXTRACTOR, customerId, cursor, limit);
+    }
+
+    public Optional<Orders> findOrderById(final Long customerId, final Long orderId) {
+        final String sql = String.format(ORDERS_WITH_DETAILS_SQL,
+                "SELECT id FROM orders WHERE customer_id = ? AND id = ?");
+        return jdbcTemplate.query(sql, ORDERS_EXTRACTOR, customerId, orderId).stream()
+                .findFirst();
+    }
+
+    private static OrderDetail toOrderDetail(final long productId, final ResultSet resultSet) throws SQLException {
+        return new OrderDetail(
+                productId,
+                resultSet.getInt("price"),
+                resultSet.getString("name"),
+                resultSet.getString("thumbnail"),
+                resultSet.getInt("quantity")
+        );
     }
 }
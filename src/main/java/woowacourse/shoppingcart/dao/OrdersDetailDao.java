@@ -31,6 +31,16 @@ public class OrdersDetailDao {
         return keyHolder.getKey().longValue();
     }
 
+    public void addOrdersDetails(final Long ordersId, final List<OrderDetail> orderDetails) {
+        final String sql = "INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (?, ?, ?)";
+
+        jdbcTemplate.batchUpdate(sql, orderDetails, orderDetails.size(), (preparedStatement, orderDetail) -> {
+            preparedStatement.setLong(1, ordersId);
+            preparedStatement.setLong(2, orderDetail.getProductId());
+            preparedStatement.setLong(3, orderDetail.getQuantity());
+        });
+    }
+
     public List<OrderDetail> findOrdersDetailsByOrderId(final Long orderId) {
         final String sql = "SELECT product_id, quantity FROM orders_detail WHERE orders_id = ?";
         return jdbcTemplate.query(sql, (rs, rowNum) -> new OrderDetail(
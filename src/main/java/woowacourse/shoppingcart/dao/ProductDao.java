@@ -2,17 +2,28 @@ package woowacourse.shoppingcart.dao;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 import woowacourse.shoppingcart.domain.Product;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class ProductDao {
+    private static final int STREAM_FETCH_SIZE = 1_000;
+    private static final RowMapper<Product> PRODUCT_ROW_MAPPER = (resultSet, rowNumber) -> new Product(
+            resultSet.getLong("id"),
+            resultSet.getString("name"),
+            resultSet.getInt("price"),
+            resultSet.getString("thumbnail")
+    );
 
     private final JdbcTemplate jdbcTemplate;
 
@@ -51,15 +62,20 @@ public class ProductDao {
         }
     }
 
-    public List<Product> findProducts() {
-        final String query = "SELECT id, name, price, thumbnail FROM product";
-        return jdbcTemplate.query(query, (resultSet, rowNumber) ->
-                new Product(
-                        resultSet.getLong("id"),
-                        resultSet.getString("name"),
-                        resultSet.getInt("price"),
-                        resultSet.getString("thumbnail")
-                ));
+    public List<Product> findProductsAfter(final Long cursor, final int limit) {
+        final String query = "SELECT id, name, price, thumbnail FROM product WHERE id > ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(query, PRODUCT_ROW_MAPPER, cursor, limit);
+    }
+
+    public void streamProducts(final Consumer<Product> consumer) {
+        final String query = "SELECT id, name, price, thumbnail FROM product ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement preparedStatement = connection.prepareStatement(
+                    query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(STREAM_FETCH_SIZE);
+            return preparedStatement;
+        }, (RowCallbackHandler) resultSet ->
+                consumer.accept(PRODUCT_ROW_MAPPER.mapRow(resultSet, resultSet.getRow())));
     }
 
     public void delete(final Long productId) {
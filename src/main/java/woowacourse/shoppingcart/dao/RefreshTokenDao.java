@@ -0,0 +1,64 @@
+package woowacourse.shoppingcart.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import woowacourse.auth.support.RefreshSession;
+import woowacourse.auth.support.RefreshTokenStore;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public class RefreshTokenDao implements RefreshTokenStore {
+    private static final RowMapper<RefreshSession> SESSION_ROW_MAPPER = (resultSet, rowNum) -> new RefreshSession(
+            resultSet.getLong("customer_id"),
+            resultSet.getString("username"),
+            resultSet.getTimestamp("expires_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshTokenDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean save(final String tokenHash, final RefreshSession session, final Instant authenticatedAt) {
+        final String sql = "INSERT INTO refresh_token (token_hash, customer_id, expires_at) "
+                + "SELECT ?, id, ? FROM customer "
+                + "WHERE id = ? AND (refresh_tokens_revoked_at IS NULL OR refresh_tokens_revoked_at < ?)";
+        return jdbcTemplate.update(sql, tokenHash, Timestamp.from(session.getExpiresAt()), session.getCustomerId(),
+                Timestamp.from(authenticatedAt)) > 0;
+    }
+
+    @Override
+    public Optional<RefreshSession> remove(final String tokenHash) {
+        final String sql = "SELECT refresh_token.customer_id, customer.username, refresh_token.expires_at "
+                + "FROM refresh_token JOIN customer ON customer.id = refresh_token.customer_id "
+                + "WHERE refresh_token.token_hash = ?";
+        final List<RefreshSession> sessions = jdbcTemplate.query(sql, SESSION_ROW_MAPPER, tokenHash);
+        if (sessions.isEmpty()) {
+            return Optional.empty();
+        }
+        final int deleted = jdbcTemplate.update("DELETE FROM refresh_token WHERE token_hash = ?", tokenHash);
+        if (deleted == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(sessions.get(0));
+    }
+
+    @Override
+    public void removeByCustomerId(final Long customerId, final Instant revokedAt) {
+        final String revokeSql = "UPDATE customer SET refresh_tokens_revoked_at = ? WHERE id = ?";
+        jdbcTemplate.update(revokeSql, Timestamp.from(revokedAt), customerId);
+        final String sql = "DELETE FROM refresh_token WHERE customer_id = ?";
+        jdbcTemplate.update(sql, customerId);
+    }
+
+    @Override
+    public int removeExpired(final Instant now) {
+        final String sql = "DELETE FROM refresh_token WHERE expires_at <= ?";
+        return jdbcTemplate.update(sql, Timestamp.from(now));
+    }
+}
@@ -3,46 +3,44 @@ package woowacourse.shoppingcart.domain;
 import woowacourse.shoppingcart.exception.ExistCartItemException;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Cart {
-    private final List<CartItem> cartItems;
+    private final Map<Long, CartItem> cartItems = new LinkedHashMap<>();
 
     public Cart(List<CartItem> cartItems) {
-        this.cartItems = new ArrayList<>(cartItems);
+        cartItems.forEach(this::add);
     }
 
     public void add(CartItem cartItem) {
-        if (cartItems.contains(cartItem)) {
+        if (cartItems.putIfAbsent(productIdOf(cartItem), cartItem) != null) {
             throw new ExistCartItemException();
         }
-        cartItems.add(cartItem);
     }
 
     public void add(Product product) {
-        validateDuplicateProduct(product);
-        final CartItem cartItem = new CartItem(product, 1);
-        add(cartItem);
+        add(new CartItem(product, 1));
     }
 
     public void updateCartItem(CartItem cartItem, int updateQuantity) {
-        cartItems.remove(cartItem);
-        cartItems.add(cartItem.updateQuantity(updateQuantity));
+        cartItems.put(productIdOf(cartItem), cartItem.updateQuantity(updateQuantity));
     }
 
     public void delete(CartItem cartItem) {
-        cartItems.remove(cartItem);
+        cartItems.remove(productIdOf(cartItem));
     }
 
-    private void validateDuplicateProduct(Product product) {
-        final boolean isDuplicateProduct = cartItems.stream()
-                .anyMatch(it -> it.getProduct().equals(product));
-        if (isDuplicateProduct) {
-            throw new ExistCartItemException();
-        }
+    public boolean contains(Product product) {
+        return cartItems.containsKey(product.getId());
+    }
+
+    private Long productIdOf(CartItem cartItem) {
+        return cartItem.getProduct().getId();
     }
 
     public List<CartItem> getCartItems() {
-        return cartItems;
+        return new ArrayList<>(cartItems.values());
     }
 }
@@ -0,0 +1,58 @@
+package woowacourse.shoppingcart.domain;
+
+import woowacourse.shoppingcart.exception.InvalidArgumentRequestException;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class PageSize {
+    private static final int MIN_PAGE_SIZE = 1;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Long FIRST_CURSOR = 0L;
+
+    private final int size;
+
+    public PageSize(int size) {
+        validateSize(size);
+        this.size = size;
+    }
+
+    private void validateSize(int size) {
+        if (size < MIN_PAGE_SIZE || size > MAX_PAGE_SIZE) {
+            throw new InvalidArgumentRequestException("페이지 크기는 1 이상 100 이하여야 합니다.");
+        }
+    }
+
+    public int getFetchSize() {
+        return size + 1;
+    }
+
+    public boolean hasNext(List<?> fetched) {
+        return fetched.size() > size;
+    }
+
+    public <T> List<T> slice(List<T> fetched) {
+        if (hasNext(fetched)) {
+            return fetched.subList(0, size);
+        }
+        return fetched;
+    }
+
+    public static Long startCursor(Long cursor) {
+        if (cursor == null) {
+            return FIRST_CURSOR;
+        }
+        return cursor;
+    }
+
+    public <T> Long nextCursor(List<T> fetched, Function<T, Long> idExtractor) {
+        if (!hasNext(fetched)) {
+            return null;
+        }
+        return idExtractor.apply(fetched.get(size - 1));
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
@@ -3,12 +3,18 @@ package woowacourse.shoppingcart.domain.customer;
 import woowacourse.shoppingcart.exception.InvalidArgumentRequestException;
 
 public class Customer {
+    private final Long id;
     private final Username username;
     private final EncodePassword password;
     private final Nickname nickname;
     private final Age age;
 
     public Customer(Username username, EncodePassword password, Nickname nickname, Age age) {
+        this(null, username, password, nickname, age);
+    }
+
+    public Customer(Long id, Username username, EncodePassword password, Nickname nickname, Age age) {
+        this.id = id;
         this.username = username;
         this.password = password;
         this.nickname = nickname;
@@ -16,7 +22,12 @@ public class Customer {
     }
 
     public static Customer of(String username, EncodePassword password, String nickname, int age) {
+        return of(null, username, password, nickname, age);
+    }
+
+    public static Customer of(Long id, String username, EncodePassword password, String nickname, int age) {
         return new Customer(
+                id,
                 new Username(username),
                 password,
                 new Nickname(nickname),
@@ -24,14 +35,22 @@ public class Customer {
         );
     }
 
-    public void validatePassword(EncodePassword password) {
-        if (!this.password.hasSamePassword(password)) {
+    public void validatePassword(RawPassword rawPassword, PasswordEncoder passwordEncoder) {
+        if (!passwordEncoder.matches(rawPassword, password)) {
             throw new InvalidArgumentRequestException("비밀번호가 일치하지 않습니다.");
         }
     }
 
+    public boolean needsPasswordUpgrade(PasswordEncoder passwordEncoder) {
+        return passwordEncoder.upgradeEncoding(password);
+    }
+
     public Customer updatePassword(EncodePassword newPassword) {
-        return new Customer(username, newPassword, nickname, age);
+        return new Customer(id, username, newPassword, nickname, age);
+    }
+
+    public Long getId() {
+        return id;
     }
 
     public String getUsername() {
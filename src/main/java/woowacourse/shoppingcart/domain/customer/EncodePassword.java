@@ -3,7 +3,7 @@ package woowacourse.shoppingcart.domain.customer;
 import java.util.Objects;
 
 public class EncodePassword {
-    private static final int ENCODE_PASSWORD_LENGTH = 64;
+    private static final int MAX_ENCODE_PASSWORD_LENGTH = 255;
 
     private final String password;
 
@@ -13,15 +13,11 @@ public class EncodePassword {
     }
 
     private void validatePassword(String password) {
-        if (password.length() != ENCODE_PASSWORD_LENGTH) {
+        if (password.isBlank() || password.length() > MAX_ENCODE_PASSWORD_LENGTH) {
             throw new IllegalStateException("암호화 비밀번호의 길이가 올바르지 않습니다.");
         }
     }
 
-    public boolean hasSamePassword(EncodePassword encodePassword) {
-        return this.password.equals(encodePassword.getPassword());
-    }
-
     public String getPassword() {
         return password;
     }
@@ -2,4 +2,10 @@ package woowacourse.shoppingcart.domain.customer;
 
 public interface PasswordEncoder {
     EncodePassword encode(RawPassword rawPassword);
+
+    boolean matches(RawPassword rawPassword, EncodePassword encodePassword);
+
+    default boolean upgradeEncoding(EncodePassword encodePassword) {
+        return false;
+    }
 }
@@ -0,0 +1,30 @@
+package woowacourse.shoppingcart.dto;
+
+import woowacourse.shoppingcart.domain.OrderDetail;
+
+public class OrderDetailResponse {
+    private ProductResponse product;
+    private int quantity;
+
+    private OrderDetailResponse() {
+    }
+
+    public OrderDetailResponse(ProductResponse product, int quantity) {
+        this.product = product;
+        this.quantity = quantity;
+    }
+
+    public static OrderDetailResponse from(OrderDetail orderDetail) {
+        ProductResponse product = new ProductResponse(orderDetail.getProductId(), orderDetail.getName(),
+                orderDetail.getPrice(), orderDetail.getImageUrl());
+        return new OrderDetailResponse(product, orderDetail.getQuantity());
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
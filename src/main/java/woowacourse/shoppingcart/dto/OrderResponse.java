@@ -0,0 +1,34 @@
+package woowacourse.shoppingcart.dto;
+
+import woowacourse.shoppingcart.domain.Orders;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OrderResponse {
+    private Long id;
+    private List<OrderDetailResponse> orderDetails;
+
+    private OrderResponse() {
+    }
+
+    public OrderResponse(Long id, List<OrderDetailResponse> orderDetails) {
+        this.id = id;
+        this.orderDetails = orderDetails;
+    }
+
+    public static OrderResponse from(Orders orders) {
+        List<OrderDetailResponse> orderDetails = orders.getOrderDetails().stream()
+                .map(OrderDetailResponse::from)
+                .collect(Collectors.toList());
+        return new OrderResponse(orders.getId(), orderDetails);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public List<OrderDetailResponse> getOrderDetails() {
+        return orderDetails;
+    }
+}
@@ -0,0 +1,24 @@
+package woowacourse.shoppingcart.dto;
+
+import java.util.List;
+
+public class OrdersResponse {
+    private List<OrderResponse> orders;
+    private Long nextCursor;
+
+    private OrdersResponse() {
+    }
+
+    public OrdersResponse(List<OrderResponse> orders, Long nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
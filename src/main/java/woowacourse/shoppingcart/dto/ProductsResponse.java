@@ -4,15 +4,21 @@ import java.util.List;
 
 public class ProductsResponse {
     private List<ProductResponse> products;
+    private Long nextCursor;
 
     private ProductsResponse() {
     }
 
-    public ProductsResponse(List<ProductResponse> products) {
+    public ProductsResponse(List<ProductResponse> products, Long nextCursor) {
         this.products = products;
+        this.nextCursor = nextCursor;
     }
 
     public List<ProductResponse> getProducts() {
         return products;
     }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
 }
@@ -0,0 +1,11 @@
+package woowacourse.shoppingcart.exception;
+
+public class PasswordHashingOverloadException extends RuntimeException {
+    public PasswordHashingOverloadException() {
+        this("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public PasswordHashingOverloadException(final String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,103 @@
+package woowacourse.shoppingcart.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+    private static final double LN2 = Math.log(2);
+    private static final long MAX_BIT_SIZE = Integer.MAX_VALUE;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong setBitCount = new AtomicLong();
+
+    private BloomFilter(final long bitSize, final int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    public static BloomFilter create(final long expectedInsertions, final double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+        final long insertions = Math.max(1, expectedInsertions);
+        final long bitSize = Math.min(MAX_BIT_SIZE,
+                Math.max(Long.SIZE, (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2))));
+        final int hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * LN2));
+        return new BloomFilter(bitSize, hashCount);
+    }
+
+    public void put(final String value) {
+        final long hash = hash(value);
+        final int hash1 = (int) hash;
+        final int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(hash1, hash2, i));
+        }
+    }
+
+    public boolean mightContain(final String value) {
+        final long hash = hash(value);
+        final int hash1 = (int) hash;
+        final int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(hash1, hash2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBitCount.get() / bitSize, hashCount);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(final int hash1, final int hash2, final int i) {
+        int combinedHash = hash1 + i * hash2;
+        if (combinedHash < 0) {
+            combinedHash = ~combinedHash;
+        }
+        return combinedHash % bitSize;
+    }
+
+    private void setBit(final long index) {
+        final int wordIndex = (int) (index >>> 6);
+        final long mask = 1L << index;
+        long word;
+        do {
+            word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word | mask));
+        setBitCount.incrementAndGet();
+    }
+
+    private boolean getBit(final long index) {
+        return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    private static long hash(final String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
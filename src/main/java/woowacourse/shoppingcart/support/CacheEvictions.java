@@ -0,0 +1,21 @@
+package woowacourse.shoppingcart.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class CacheEvictions {
+    private CacheEvictions() {
+    }
+
+    public static <K> void evictNowAndAfterCommit(final ExpiringCache<K, ?> cache, final K key) {
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+}
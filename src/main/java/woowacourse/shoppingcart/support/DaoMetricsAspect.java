@@ -0,0 +1,79 @@
+package woowacourse.shoppingcart.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+public class DaoMetricsAspect {
+    private static final String QUERY_TIMER = "dao.query";
+    private static final String QUERY_ROWS = "dao.query.rows";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<Method, Timer> errorTimers = new ConcurrentHashMap<>();
+    private final Map<Method, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public DaoMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Consumer로 행을 넘기는 스트리밍 메서드는 소비자의 처리 시간까지 포함되므로 쿼리 시간으로 기록하지 않는다.
+    @Around("execution(public * woowacourse.shoppingcart.dao..*.*(..))"
+            + " && !execution(* woowacourse.shoppingcart.dao..*.*(.., java.util.function.Consumer))")
+    public Object record(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            final Object result = joinPoint.proceed();
+            sample.stop(successTimers.computeIfAbsent(method, it -> queryTimer(it, "success")));
+            rowCount(result).ifPresent(rows -> rowSummaries.computeIfAbsent(method, this::rowSummary).record(rows));
+            return result;
+        } catch (Throwable e) {
+            sample.stop(errorTimers.computeIfAbsent(method, it -> queryTimer(it, "error")));
+            throw e;
+        }
+    }
+
+    private Timer queryTimer(final Method method, final String outcome) {
+        return Timer.builder(QUERY_TIMER)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary rowSummary(final Method method) {
+        return DistributionSummary.builder(QUERY_ROWS)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .register(meterRegistry);
+    }
+
+    private OptionalLong rowCount(final Object result) {
+        if (result instanceof Collection) {
+            return OptionalLong.of(((Collection<?>) result).size());
+        }
+        if (result instanceof Optional) {
+            return OptionalLong.of(((Optional<?>) result).isPresent() ? 1 : 0);
+        }
+        if (result instanceof Integer) {
+            return OptionalLong.of((Integer) result);
+        }
+        return OptionalLong.empty();
+    }
+}
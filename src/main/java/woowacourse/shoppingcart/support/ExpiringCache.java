@@ -0,0 +1,158 @@
+package woowacourse.shoppingcart.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class ExpiringCache<K, V> {
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final int maximumSize;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, Object> loadsInFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public ExpiringCache(final int maximumSize, final Duration timeToLive) {
+        this(maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    public ExpiringCache(final int maximumSize, final Duration timeToLive, final Clock clock) {
+        validate(maximumSize, timeToLive);
+        this.maximumSize = maximumSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+    }
+
+    private void validate(final int maximumSize, final Duration timeToLive) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("캐시의 최대 크기는 1 이상이어야 합니다.");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("캐시의 TTL은 0보다 커야 합니다.");
+        }
+    }
+
+    public Optional<V> get(final K key, final Function<? super K, Optional<V>> loader) {
+        final Optional<V> cached = getIfPresent(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        final Object load = new Object();
+        loadsInFlight.put(key, load);
+        Optional<V> loaded = Optional.empty();
+        try {
+            loaded = loader.apply(key);
+            return loaded;
+        } finally {
+            completeLoad(key, load, loaded);
+        }
+    }
+
+    public Optional<V> getIfPresent(final K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.millis())) {
+            if (entries.remove(key, entry)) {
+                evictionCount.increment();
+            }
+            missCount.increment();
+            return Optional.empty();
+        }
+        entry.lastAccessNanos = System.nanoTime();
+        hitCount.increment();
+        return Optional.of(entry.value);
+    }
+
+    public void put(final K key, final V value) {
+        entries.put(key, new Entry<>(value, clock.millis() + timeToLiveMillis));
+        while (entries.size() > maximumSize) {
+            evictOne();
+        }
+    }
+
+    private void completeLoad(final K key, final Object load, final Optional<V> loaded) {
+        loadsInFlight.computeIfPresent(key, (k, current) -> {
+            if (current == load) {
+                loaded.ifPresent(value -> put(k, value));
+                return null;
+            }
+            return current;
+        });
+    }
+
+    private void evictOne() {
+        final long nowMillis = clock.millis();
+        Map.Entry<K, Entry<V>> victim = null;
+        final Iterator<Map.Entry<K, Entry<V>>> sample = entries.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && sample.hasNext(); i++) {
+            final Map.Entry<K, Entry<V>> candidate = sample.next();
+            if (candidate.getValue().isExpired(nowMillis)) {
+                victim = candidate;
+                break;
+            }
+            if (victim == null || candidate.getValue().lastAccessNanos < victim.getValue().lastAccessNanos) {
+                victim = candidate;
+            }
+        }
+        if (victim != null && entries.remove(victim.getKey(), victim.getValue())) {
+            evictionCount.increment();
+        }
+    }
+
+    public void invalidate(final K key) {
+        loadsInFlight.compute(key, (k, current) -> {
+            entries.remove(k);
+            return null;
+        });
+    }
+
+    public void invalidateAll() {
+        loadsInFlight.clear();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private Entry(final V value, final long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(final long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package woowacourse.shoppingcart.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class ExpiringCacheMetrics implements MeterBinder {
+    private final ExpiringCache<?, ?> cache;
+    private final String cacheName;
+
+    public ExpiringCacheMetrics(final ExpiringCache<?, ?> cache, final String cacheName) {
+        this.cache = cache;
+        this.cacheName = cacheName;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::hitCount)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::missCount)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, ExpiringCache::evictionCount)
+                .tag("cache", cacheName)
+                .register(registry);
+        Gauge.builder("cache.size", cache, ExpiringCache::size)
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+}
@@ -0,0 +1,71 @@
+package woowacourse.shoppingcart.support;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public class RequestTimings {
+    private static final String ATTRIBUTE_NAME = RequestTimings.class.getName();
+    private static final String ANONYMOUS = "anonymous";
+
+    private final long startNanos;
+    private long authenticationNanos;
+    private long bodyWriteStartNanos;
+    private String principal = ANONYMOUS;
+
+    private RequestTimings(final long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public static RequestTimings start(final HttpServletRequest request) {
+        final RequestTimings timings = new RequestTimings(System.nanoTime());
+        request.setAttribute(ATTRIBUTE_NAME, timings);
+        return timings;
+    }
+
+    public static Optional<RequestTimings> from(final HttpServletRequest request) {
+        return Optional.ofNullable((RequestTimings) request.getAttribute(ATTRIBUTE_NAME));
+    }
+
+    public void recordAuthentication(final String principal, final long elapsedNanos) {
+        this.principal = principal;
+        this.authenticationNanos += elapsedNanos;
+    }
+
+    public void markBodyWriteStart() {
+        if (bodyWriteStartNanos == 0) {
+            bodyWriteStartNanos = System.nanoTime();
+        }
+    }
+
+    public long totalMillis(final long endNanos) {
+        return toMillis(endNanos - startNanos);
+    }
+
+    public long authenticationMillis() {
+        return toMillis(authenticationNanos);
+    }
+
+    public long serviceMillis(final long endNanos) {
+        return toMillis(handlerEndNanos(endNanos) - startNanos - authenticationNanos);
+    }
+
+    public long serializationMillis(final long endNanos) {
+        return toMillis(endNanos - handlerEndNanos(endNanos));
+    }
+
+    private long handlerEndNanos(final long endNanos) {
+        if (bodyWriteStartNanos == 0) {
+            return endNanos;
+        }
+        return bodyWriteStartNanos;
+    }
+
+    private long toMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    public String getPrincipal() {
+        return principal;
+    }
+}
@@ -23,13 +23,13 @@ public class CartController {
 
     @GetMapping
     public ResponseEntity<CartResponse> getCartItems(@AuthenticationPrincipal Customer customer) {
-        return ResponseEntity.ok().body(cartService.findCartItemsByCustomerUsername(customer.getUsername()));
+        return ResponseEntity.ok().body(cartService.findCartItemsByCustomerId(customer.getId()));
     }
 
     @PostMapping("/{productId}")
     public ResponseEntity<Void> addCartItem(@AuthenticationPrincipal Customer customer,
                                             @PathVariable final Long productId) {
-        cartService.addCart(productId, customer.getUsername());
+        cartService.addCart(productId, customer.getId());
         return ResponseEntity.created(URI.create("/cart")).build();
     }
 
@@ -37,20 +37,20 @@ public class CartController {
     public ResponseEntity<Void> updateCartItemQuantity(@AuthenticationPrincipal Customer customer,
                                                        @PathVariable final Long productId,
                                                        @Valid @RequestBody QuantityRequest quantityRequest) {
-        cartService.updateCartItemQuantity(quantityRequest.getQuantity(), productId, customer.getUsername());
+        cartService.updateCartItemQuantity(quantityRequest.getQuantity(), productId, customer.getId());
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/products")
     public ResponseEntity<Void> deleteCartItem(@AuthenticationPrincipal Customer customer,
                                                @Valid @RequestBody ProductIdsRequest productIdsRequest) {
-        cartService.deleteCartItem(customer.getUsername(), productIdsRequest.getProductIds());
+        cartService.deleteCartItem(customer.getId(), productIdsRequest.getProductIds());
         return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping
     public ResponseEntity<Void> deleteCart(@AuthenticationPrincipal Customer customer) {
-        cartService.deleteCart(customer.getUsername());
+        cartService.deleteCart(customer.getId());
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,13 +1,12 @@
 package woowacourse.shoppingcart.ui;
 
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 import woowacourse.auth.support.AuthenticationPrincipal;
 import woowacourse.shoppingcart.application.OrderService;
 import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.dto.OrderResponse;
+import woowacourse.shoppingcart.dto.OrdersResponse;
 import woowacourse.shoppingcart.dto.ProductIdsRequest;
 
 import javax.validation.Valid;
@@ -16,6 +15,8 @@ import java.net.URI;
 @RestController
 @RequestMapping("/orders")
 public class OrderController {
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final OrderService orderService;
 
     public OrderController(final OrderService orderService) {
@@ -25,7 +26,20 @@ public class OrderController {
     @PostMapping
     public ResponseEntity<Void> addOrder(@AuthenticationPrincipal Customer customer,
                                          @Valid @RequestBody ProductIdsRequest productIdsRequest) {
-        final Long orderId = orderService.addOrder(productIdsRequest.getProductIds(), customer.getUsername());
+        final Long orderId = orderService.addOrder(productIdsRequest.getProductIds(), customer.getId());
         return ResponseEntity.created(URI.create("/orders/" + orderId)).build();
     }
-}
\ No newline at end of file
+
+    @GetMapping
+    public ResponseEntity<OrdersResponse> orders(@AuthenticationPrincipal Customer customer,
+                                                 @RequestParam(required = false) final Long cursor,
+                                                 @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size) {
+        return ResponseEntity.ok(orderService.findOrders(customer.getId(), cursor, size));
+    }
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderResponse> order(@AuthenticationPrincipal Customer customer,
+                                               @PathVariable final Long orderId) {
+        return ResponseEntity.ok(orderService.findOrder(customer.getId(), orderId));
+    }
+}
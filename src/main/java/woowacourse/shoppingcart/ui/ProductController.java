@@ -1,7 +1,11 @@
 package woowacourse.shoppingcart.ui;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import woowacourse.shoppingcart.application.ProductService;
 import woowacourse.shoppingcart.dto.ProductRequest;
@@ -9,21 +13,52 @@ import woowacourse.shoppingcart.dto.ProductResponse;
 import woowacourse.shoppingcart.dto.ProductsResponse;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 
 @RestController
 @RequestMapping("/products")
 public class ProductController {
+    private static final String DEFAULT_PAGE_SIZE = "20";
 
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
 
-    public ProductController(final ProductService productService) {
+    public ProductController(final ProductService productService, final ObjectMapper objectMapper) {
         this.productService = productService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public ResponseEntity<ProductsResponse> products() {
-        return ResponseEntity.ok(productService.findProducts());
+    public ResponseEntity<ProductsResponse> products(@RequestParam(required = false) final Long cursor,
+                                                     @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size) {
+        return ResponseEntity.ok(productService.findProducts(cursor, size));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        final StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("products");
+                productService.exportProducts(product -> writeProduct(generator, product));
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private void writeProduct(final JsonGenerator generator, final ProductResponse product) {
+        try {
+            generator.writeObject(product);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @PostMapping
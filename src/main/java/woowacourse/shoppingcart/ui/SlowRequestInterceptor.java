@@ -0,0 +1,70 @@
+package woowacourse.shoppingcart.ui;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import woowacourse.shoppingcart.support.RequestTimings;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+
+@Component
+public class SlowRequestInterceptor implements AsyncHandlerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(SlowRequestInterceptor.class);
+
+    private final long thresholdMillis;
+
+    public SlowRequestInterceptor(@Value("${shoppingcart.slow-request.threshold:500ms}") final Duration threshold) {
+        this.thresholdMillis = threshold.toMillis();
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            RequestTimings.start(request);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request, final HttpServletResponse response,
+                                               final Object handler) {
+        RequestTimings.from(request).ifPresent(RequestTimings::markBodyWriteStart);
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+        final long endNanos = System.nanoTime();
+        RequestTimings.from(request)
+                .filter(timings -> timings.totalMillis(endNanos) >= thresholdMillis)
+                .ifPresent(timings -> logSlowRequest(request, response, timings, endNanos));
+    }
+
+    private void logSlowRequest(final HttpServletRequest request, final HttpServletResponse response,
+                                final RequestTimings timings, final long endNanos) {
+        log.warn("slow request: {} {} status={} principal={} total={}ms auth={}ms service={}ms serialization={}ms",
+                request.getMethod(),
+                route(request),
+                response.getStatus(),
+                timings.getPrincipal(),
+                timings.totalMillis(endNanos),
+                timings.authenticationMillis(),
+                timings.serviceMillis(endNanos),
+                timings.serializationMillis(endNanos));
+    }
+
+    private Object route(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return request.getRequestURI();
+        }
+        return pattern;
+    }
+}
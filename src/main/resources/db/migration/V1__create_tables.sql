@@ -1,5 +1,3 @@
-drop table if exists product;
-
 create table if not exists customer
 (
     id       bigint      not null auto_increment,
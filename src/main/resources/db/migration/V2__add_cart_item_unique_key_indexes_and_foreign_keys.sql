@@ -0,0 +1,42 @@
+delete from cart_item
+where id not in (select kept.id
+                 from (select min(id) as id from cart_item group by customer_username, product_id) kept);
+
+delete from cart_item where product_id not in (select id from product);
+
+delete from cart_item where customer_username not in (select username from customer);
+
+alter table orders modify column customer_username varchar(255) null /*!50600 , algorithm=inplace, lock=none */;
+
+update orders set customer_username = null where customer_username not in (select username from customer);
+
+insert into orders (id, customer_username)
+select distinct orders_id, null from orders_detail where orders_id not in (select id from orders);
+
+alter table cart_item
+    add constraint uk_cart_item_customer_product unique (customer_username, product_id)
+    /*!50600 , algorithm=inplace, lock=none */;
+
+create index idx_orders_customer_username on orders (customer_username) /*!50600 algorithm=inplace lock=none */;
+
+create index idx_orders_detail_orders_id on orders_detail (orders_id) /*!50600 algorithm=inplace lock=none */;
+
+/*!50600 set foreign_key_checks = 0 */;
+
+alter table cart_item
+    add constraint fk_cart_item_customer foreign key (customer_username) references customer (username)
+        on delete cascade /*!50600 , algorithm=inplace, lock=none */;
+
+alter table cart_item
+    add constraint fk_cart_item_product foreign key (product_id) references product (id)
+        on delete cascade /*!50600 , algorithm=inplace, lock=none */;
+
+alter table orders
+    add constraint fk_orders_customer foreign key (customer_username) references customer (username)
+        on delete set null /*!50600 , algorithm=inplace, lock=none */;
+
+alter table orders_detail
+    add constraint fk_orders_detail_orders foreign key (orders_id) references orders (id)
+        on delete cascade /*!50600 , algorithm=inplace, lock=none */;
+
+/*!50600 set foreign_key_checks = 1 */;
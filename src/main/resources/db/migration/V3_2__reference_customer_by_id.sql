@@ -0,0 +1,31 @@
+alter table cart_item drop foreign key fk_cart_item_customer /*!50600 , algorithm=inplace, lock=none */;
+
+alter table cart_item drop index uk_cart_item_customer_product /*!50600 , algorithm=inplace, lock=none */;
+
+alter table cart_item drop column customer_username /*!50600 , algorithm=inplace, lock=none */;
+
+alter table cart_item modify column customer_id bigint not null /*!50600 , algorithm=inplace, lock=none */;
+
+alter table cart_item
+    add constraint uk_cart_item_customer_product unique (customer_id, product_id)
+    /*!50600 , algorithm=inplace, lock=none */;
+
+alter table orders drop foreign key fk_orders_customer /*!50600 , algorithm=inplace, lock=none */;
+
+drop index idx_orders_customer_username on orders /*!50600 algorithm=inplace lock=none */;
+
+alter table orders drop column customer_username /*!50600 , algorithm=inplace, lock=none */;
+
+create index idx_orders_customer_id on orders (customer_id) /*!50600 algorithm=inplace lock=none */;
+
+/*!50600 set foreign_key_checks = 0 */;
+
+alter table cart_item
+    add constraint fk_cart_item_customer foreign key (customer_id) references customer (id)
+        on delete cascade /*!50600 , algorithm=inplace, lock=none */;
+
+alter table orders
+    add constraint fk_orders_customer foreign key (customer_id) references customer (id)
+        on delete set null /*!50600 , algorithm=inplace, lock=none */;
+
+/*!50600 set foreign_key_checks = 1 */;
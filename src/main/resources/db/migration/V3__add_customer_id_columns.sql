@@ -0,0 +1,3 @@
+alter table cart_item add column customer_id bigint /*!50600 , algorithm=inplace, lock=none */;
+
+alter table orders add column customer_id bigint /*!50600 , algorithm=inplace, lock=none */;
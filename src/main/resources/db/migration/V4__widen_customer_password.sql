@@ -0,0 +1 @@
+alter table customer modify column password varchar(255) not null;
@@ -0,0 +1,13 @@
+create table if not exists refresh_token
+(
+    token_hash  varchar(64) not null,
+    customer_id bigint      not null,
+    expires_at  datetime    not null,
+    primary key (token_hash),
+    constraint fk_refresh_token_customer foreign key (customer_id) references customer (id)
+        on delete cascade
+) engine=InnoDB default charset=utf8mb4;
+
+create index idx_refresh_token_expires_at on refresh_token (expires_at);
+
+alter table customer add column refresh_tokens_revoked_at datetime(6) /*!50600 , algorithm=inplace, lock=none */;
@@ -1,11 +1,13 @@
 package woowacourse.auth.acceptance;
 
 import io.restassured.RestAssured;
+import io.restassured.response.ValidatableResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import woowacourse.auth.dto.RefreshTokenRequest;
 import woowacourse.auth.dto.TokenRequest;
 import woowacourse.auth.dto.TokenResponse;
 import woowacourse.shoppingcart.acceptance.AcceptanceTest;
@@ -100,6 +102,48 @@ public class AuthAcceptanceTest extends AcceptanceTest {
                 .as(AuthorizationException.class);
     }
 
+    @DisplayName("리프레시 토큰으로 토큰을 재발급하고, 사용한 리프레시 토큰은 다시 쓸 수 없다.")
+    @Test
+    void refreshToken() {
+        // given
+        TokenResponse loginResponse = 로그인_요청("forky", "forky@1234");
+        // when
+        TokenResponse refreshResponse = 토큰_재발급_요청(loginResponse.getRefreshToken())
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(TokenResponse.class);
+        // then
+        RestAssured.given().log().all()
+                .auth().oauth2(refreshResponse.getAccessToken())
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/customers/me")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value());
+        토큰_재발급_요청(loginResponse.getRefreshToken())
+                .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private TokenResponse 로그인_요청(String username, String password) {
+        return RestAssured.given().log().all()
+                .body(new TokenRequest(username, password))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/login")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .as(TokenResponse.class);
+    }
+
+    private ValidatableResponse 토큰_재발급_요청(String refreshToken) {
+        return RestAssured.given().log().all()
+                .body(new RefreshTokenRequest(refreshToken))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/token/refresh")
+                .then().log().all();
+    }
+
     private void signUpCustomer() {
         CustomerRequest customerRequest =
                 new CustomerRequest("forky", "forky@1234", "복희", 26);
@@ -0,0 +1,172 @@
+package woowacourse.auth.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import woowacourse.auth.dto.RefreshTokenRequest;
+import woowacourse.auth.dto.TokenRequest;
+import woowacourse.auth.dto.TokenResponse;
+import woowacourse.auth.support.HashPasswordEncoder;
+import woowacourse.auth.support.InMemoryRefreshTokenStore;
+import woowacourse.auth.support.JwtTokenProvider;
+import woowacourse.auth.support.RefreshSession;
+import woowacourse.auth.support.RefreshTokenProvider;
+import woowacourse.auth.support.RefreshTokenStore;
+import woowacourse.auth.support.TokenDigests;
+import woowacourse.shoppingcart.application.CustomerCache;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+import woowacourse.shoppingcart.exception.AuthorizationException;
+import woowacourse.shoppingcart.exception.InvalidArgumentRequestException;
+import woowacourse.shoppingcart.exception.InvalidCustomerException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Transactional
+@Sql("/test_schema.sql")
+class AuthServiceTest {
+    private static final String USERNAME = "forky";
+    private static final String PASSWORD = "forky@1234";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CustomerDao customerDao;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private RefreshTokenProvider refreshTokenProvider;
+
+    @Autowired
+    private CustomerCache customerCache;
+
+    @DisplayName("기존 SHA-256 비밀번호로 로그인하면 현재 암호화 방식으로 재암호화한다.")
+    @Test
+    void createToken_upgradeLegacyPassword() {
+        EncodePassword legacyPassword = new HashPasswordEncoder().encode(new RawPassword(PASSWORD));
+        customerDao.save(Customer.of(USERNAME, legacyPassword, "포키", 26));
+
+        authService.createToken(new TokenRequest(USERNAME, PASSWORD));
+
+        EncodePassword actual = findPassword();
+        assertAll(
+                () -> assertThat(actual.getPassword()).startsWith("{scrypt}"),
+                () -> assertThat(passwordEncoder.matches(new RawPassword(PASSWORD), actual)).isTrue()
+        );
+    }
+
+    @DisplayName("트랜잭션 밖에서 로그인해도 재암호화한 비밀번호를 저장한다.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void createToken_upgradeWithoutTransaction() {
+        EncodePassword legacyPassword = new HashPasswordEncoder().encode(new RawPassword(PASSWORD));
+        customerDao.save(Customer.of(USERNAME, legacyPassword, "포키", 26));
+
+        authService.createToken(new TokenRequest(USERNAME, PASSWORD));
+
+        assertThat(findPassword().getPassword()).startsWith("{scrypt}");
+    }
+
+    @DisplayName("현재 암호화 방식의 비밀번호로 로그인하면 비밀번호를 변경하지 않는다.")
+    @Test
+    void createToken_keepCurrentPassword() {
+        EncodePassword currentPassword = passwordEncoder.encode(new RawPassword(PASSWORD));
+        customerDao.save(Customer.of(USERNAME, currentPassword, "포키", 26));
+
+        authService.createToken(new TokenRequest(USERNAME, PASSWORD));
+
+        assertThat(findPassword()).isEqualTo(currentPassword);
+    }
+
+    @DisplayName("비밀번호가 일치하지 않으면 재암호화하지 않고 예외를 발생시킨다.")
+    @Test
+    void createToken_invalidPassword() {
+        EncodePassword legacyPassword = new HashPasswordEncoder().encode(new RawPassword(PASSWORD));
+        customerDao.save(Customer.of(USERNAME, legacyPassword, "포키", 26));
+
+        assertThatExceptionOfType(InvalidArgumentRequestException.class)
+                .isThrownBy(() -> authService.createToken(new TokenRequest(USERNAME, "kei@12345")))
+                .withMessageContaining("일치");
+        assertThat(findPassword()).isEqualTo(legacyPassword);
+    }
+
+    @DisplayName("리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급한다.")
+    @Test
+    void refreshToken() {
+        customerDao.save(Customer.of(USERNAME, passwordEncoder.encode(new RawPassword(PASSWORD)), "포키", 26));
+        TokenResponse loginResponse = authService.createToken(new TokenRequest(USERNAME, PASSWORD));
+
+        TokenResponse refreshResponse =
+                authService.refreshToken(new RefreshTokenRequest(loginResponse.getRefreshToken()));
+
+        assertAll(
+                () -> assertThat(jwtTokenProvider.getPayload(refreshResponse.getAccessToken())).isEqualTo(USERNAME),
+                () -> assertThat(refreshResponse.getRefreshToken()).isNotEqualTo(loginResponse.getRefreshToken())
+        );
+    }
+
+    @DisplayName("이미 사용한 리프레시 토큰으로 재발급하면 예외를 발생시킨다.")
+    @Test
+    void refreshToken_reused() {
+        customerDao.save(Customer.of(USERNAME, passwordEncoder.encode(new RawPassword(PASSWORD)), "포키", 26));
+        TokenResponse loginResponse = authService.createToken(new TokenRequest(USERNAME, PASSWORD));
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest(loginResponse.getRefreshToken());
+        authService.refreshToken(refreshTokenRequest);
+
+        assertThatExceptionOfType(AuthorizationException.class)
+                .isThrownBy(() -> authService.refreshToken(refreshTokenRequest));
+    }
+
+    @DisplayName("만료된 리프레시 토큰으로 재발급하면 예외를 발생시킨다.")
+    @Test
+    void refreshToken_expired() {
+        Long customerId = customerDao.save(
+                Customer.of(USERNAME, passwordEncoder.encode(new RawPassword(PASSWORD)), "포키", 26));
+        refreshTokenStore.save(TokenDigests.sha256("expired"),
+                new RefreshSession(customerId, USERNAME, Instant.now().minusSeconds(1)), Instant.now());
+
+        assertThatExceptionOfType(AuthorizationException.class)
+                .isThrownBy(() -> authService.refreshToken(new RefreshTokenRequest("expired")));
+    }
+
+    @DisplayName("로그인 도중 회원의 세션이 폐기되면 저장되지 않은 리프레시 토큰을 발급하지 않고 예외를 발생시킨다.")
+    @Test
+    void createToken_revokedWhileAuthenticating() {
+        Long customerId = customerDao.save(
+                Customer.of(USERNAME, passwordEncoder.encode(new RawPassword(PASSWORD)), "포키", 26));
+        InMemoryRefreshTokenStore revokedStore = new InMemoryRefreshTokenStore(1, 10);
+        revokedStore.removeByCustomerId(customerId, Instant.now().plusSeconds(60));
+        AuthService revokedAuthService = new AuthService(jwtTokenProvider, customerDao, passwordEncoder,
+                customerCache, refreshTokenProvider, revokedStore);
+
+        assertThatExceptionOfType(AuthorizationException.class)
+                .isThrownBy(() -> revokedAuthService.createToken(new TokenRequest(USERNAME, PASSWORD)));
+    }
+
+    private EncodePassword findPassword() {
+        Customer customer = customerDao.findCustomerByUsername(USERNAME)
+                .orElseThrow(InvalidCustomerException::new);
+        return new EncodePassword(customer.getPassword());
+    }
+}
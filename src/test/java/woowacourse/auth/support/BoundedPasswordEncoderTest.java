@@ -0,0 +1,79 @@
+package woowacourse.auth.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.PasswordEncoder;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+import woowacourse.shoppingcart.exception.PasswordHashingOverloadException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BoundedPasswordEncoderTest {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PasswordEncoder blockingPasswordEncoder = new PasswordEncoder() {
+        private final HashPasswordEncoder hashPasswordEncoder = new HashPasswordEncoder();
+
+        @Override
+        public EncodePassword encode(RawPassword rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return hashPasswordEncoder.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(RawPassword rawPassword, EncodePassword encodePassword) {
+            return hashPasswordEncoder.matches(rawPassword, encodePassword);
+        }
+    };
+    private final RawPassword rawPassword = new RawPassword("kth@12345");
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.shutdown();
+    }
+
+    @DisplayName("위임한 암호화 결과를 그대로 반환한다.")
+    @Test
+    void matches() {
+        passwordEncoder = new BoundedPasswordEncoder(new HashPasswordEncoder(), 1, 1, Duration.ofSeconds(5));
+        EncodePassword encodePassword = passwordEncoder.encode(rawPassword);
+
+        assertThat(passwordEncoder.matches(rawPassword, encodePassword)).isTrue();
+    }
+
+    @DisplayName("대기열이 가득 차면 과부하 예외를 발생시킨다.")
+    @Test
+    void encode_queueFull() throws InterruptedException {
+        passwordEncoder = new BoundedPasswordEncoder(blockingPasswordEncoder, 1, 1, Duration.ofSeconds(1));
+        CompletableFuture.runAsync(() -> passwordEncoder.encode(rawPassword));
+        started.await();
+        CompletableFuture.runAsync(() -> passwordEncoder.encode(rawPassword));
+
+        assertThatExceptionOfType(PasswordHashingOverloadException.class)
+                .isThrownBy(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @DisplayName("제한 시간 안에 암호화하지 못하면 과부하 예외를 발생시킨다.")
+    @Test
+    void encode_timeout() {
+        passwordEncoder = new BoundedPasswordEncoder(blockingPasswordEncoder, 1, 1, Duration.ofMillis(50));
+
+        assertThatExceptionOfType(PasswordHashingOverloadException.class)
+                .isThrownBy(() -> passwordEncoder.encode(rawPassword));
+    }
+}
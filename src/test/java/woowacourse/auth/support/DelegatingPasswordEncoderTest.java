@@ -0,0 +1,68 @@
+package woowacourse.auth.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DelegatingPasswordEncoderTest {
+    private final HashPasswordEncoder hashPasswordEncoder = new HashPasswordEncoder();
+    private final Pbkdf2PasswordEncoder pbkdf2PasswordEncoder = new Pbkdf2PasswordEncoder(1000);
+    private final DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("scrypt", Map.of(
+            DelegatingPasswordEncoder.LEGACY_ID, hashPasswordEncoder,
+            Pbkdf2PasswordEncoder.ID, pbkdf2PasswordEncoder,
+            ScryptPasswordEncoder.ID, new ScryptPasswordEncoder(16, 8, 1)
+    ));
+    private final RawPassword rawPassword = new RawPassword("kth@12345");
+
+    @DisplayName("기본 암호화 방식으로 암호화한다.")
+    @Test
+    void encode() {
+        assertThat(passwordEncoder.encode(rawPassword).getPassword()).startsWith("{scrypt}");
+    }
+
+    @DisplayName("접두사가 없는 기존 SHA-256 비밀번호와 다른 방식의 비밀번호를 모두 확인한다.")
+    @Test
+    void matches() {
+        EncodePassword legacyPassword = hashPasswordEncoder.encode(rawPassword);
+        EncodePassword pbkdf2Password = pbkdf2PasswordEncoder.encode(rawPassword);
+
+        assertAll(
+                () -> assertThat(passwordEncoder.matches(rawPassword, legacyPassword)).isTrue(),
+                () -> assertThat(passwordEncoder.matches(rawPassword, pbkdf2Password)).isTrue(),
+                () -> assertThat(passwordEncoder.matches(new RawPassword("forky@1234"), legacyPassword)).isFalse()
+        );
+    }
+
+    @DisplayName("기본 암호화 방식이 아닌 비밀번호는 재암호화 대상이다.")
+    @Test
+    void upgradeEncoding() {
+        assertAll(
+                () -> assertThat(passwordEncoder.upgradeEncoding(hashPasswordEncoder.encode(rawPassword))).isTrue(),
+                () -> assertThat(passwordEncoder.upgradeEncoding(pbkdf2PasswordEncoder.encode(rawPassword))).isTrue(),
+                () -> assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode(rawPassword))).isFalse()
+        );
+    }
+
+    @DisplayName("지원하지 않는 암호화 방식의 비밀번호는 예외를 발생시킨다.")
+    @Test
+    void matches_unknownId() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> passwordEncoder.matches(rawPassword, new EncodePassword("{bcrypt}$2a$10$abc")));
+    }
+
+    @DisplayName("등록되지 않은 방식을 기본 암호화 방식으로 지정하면 예외를 발생시킨다.")
+    @Test
+    void constructor_unknownEncodingId() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DelegatingPasswordEncoder("argon2", Map.of(
+                        DelegatingPasswordEncoder.LEGACY_ID, hashPasswordEncoder)));
+    }
+}
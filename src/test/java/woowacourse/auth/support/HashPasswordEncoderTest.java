@@ -2,9 +2,21 @@ package woowacourse.auth.support;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import woowacourse.shoppingcart.domain.customer.EncodePassword;
 import woowacourse.shoppingcart.domain.customer.RawPassword;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
@@ -26,4 +38,52 @@ class HashPasswordEncoderTest {
                 () -> assertThat(encodePassword.getPassword().length()).isEqualTo(ENCODE_PASSWORD_LENGTH)
         );
     }
-}
\ No newline at end of file
+
+    @DisplayName("암호화된 비밀번호와 일치 여부를 확인한다.")
+    @Test
+    void matches() {
+        EncodePassword encodePassword = hashPasswordEncoder.encode(new RawPassword("kth@12345"));
+
+        assertAll(
+                () -> assertThat(hashPasswordEncoder.matches(new RawPassword("kth@12345"), encodePassword)).isTrue(),
+                () -> assertThat(hashPasswordEncoder.matches(new RawPassword("forky@1234"), encodePassword)).isFalse()
+        );
+    }
+
+    @DisplayName("기존 String.format 방식과 같은 결과로 암호화한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"kth@12345", "password1!", "A1!aaaaaaaaaaaaaaaaa", "00000000a!"})
+    void encode_sameAsFormatHex(String password) throws NoSuchAlgorithmException {
+        EncodePassword encodePassword = hashPasswordEncoder.encode(new RawPassword(password));
+
+        assertThat(encodePassword.getPassword()).isEqualTo(formatHex(password));
+    }
+
+    @DisplayName("여러 스레드에서 동시에 암호화해도 같은 결과를 반환한다.")
+    @Test
+    void encode_concurrently() throws Exception {
+        String expected = formatHex("kth@12345");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = executor.invokeAll(IntStream.range(0, 200)
+                    .<Callable<String>>mapToObj(i ->
+                            () -> hashPasswordEncoder.encode(new RawPassword("kth@12345")).getPassword())
+                    .collect(Collectors.toList()));
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String formatHex(String password) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        messageDigest.update(password.getBytes());
+        StringBuilder builder = new StringBuilder();
+        for (byte encodedByte : messageDigest.digest()) {
+            builder.append(String.format("%02x", encodedByte));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,147 @@
+package woowacourse.auth.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class InMemoryRefreshTokenStoreTest {
+    private static final Instant NOW = Instant.parse("2022-06-01T00:00:00Z");
+
+    private final InMemoryRefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(4, 3);
+
+    @DisplayName("저장한 세션은 한 번만 꺼낼 수 있다.")
+    @Test
+    void remove() {
+        refreshTokenStore.save("token", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW);
+
+        Optional<RefreshSession> first = refreshTokenStore.remove("token");
+        Optional<RefreshSession> second = refreshTokenStore.remove("token");
+
+        assertAll(
+                () -> assertThat(first).map(RefreshSession::getUsername).contains("puterism"),
+                () -> assertThat(second).isEmpty()
+        );
+    }
+
+    @DisplayName("만료된 세션만 정리한다.")
+    @Test
+    void removeExpired() {
+        refreshTokenStore.save("expired", new RefreshSession(1L, "puterism", NOW), NOW);
+        refreshTokenStore.save("alive", new RefreshSession(1L, "puterism", NOW.plusSeconds(1)), NOW);
+
+        int removed = refreshTokenStore.removeExpired(NOW);
+
+        assertAll(
+                () -> assertThat(removed).isEqualTo(1),
+                () -> assertThat(refreshTokenStore.remove("expired")).isEmpty(),
+                () -> assertThat(refreshTokenStore.remove("alive")).isPresent()
+        );
+    }
+
+    @DisplayName("회원의 세션을 모두 제거한다.")
+    @Test
+    void removeByCustomerId() {
+        IntStream.range(0, 3).forEach(i ->
+                refreshTokenStore.save("token" + i, new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW));
+        refreshTokenStore.save("other", new RefreshSession(2L, "tanney-102", NOW.plusSeconds(60)), NOW);
+
+        refreshTokenStore.removeByCustomerId(1L, NOW);
+
+        assertAll(
+                () -> assertThat(refreshTokenStore.size()).isEqualTo(1),
+                () -> assertThat(refreshTokenStore.remove("other")).isPresent()
+        );
+    }
+
+    @DisplayName("회원별 세션 수를 넘으면 가장 오래된 세션부터 제거한다.")
+    @Test
+    void save_exceedMaxSessions() {
+        IntStream.range(0, 4).forEach(i ->
+                refreshTokenStore.save("token" + i, new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW));
+        refreshTokenStore.save("other", new RefreshSession(2L, "tanney-102", NOW.plusSeconds(60)), NOW);
+
+        assertAll(
+                () -> assertThat(refreshTokenStore.size()).isEqualTo(4),
+                () -> assertThat(refreshTokenStore.remove("token0")).isEmpty(),
+                () -> assertThat(refreshTokenStore.remove("token3")).isPresent()
+        );
+    }
+
+    @DisplayName("회원의 세션이 폐기되기 전에 인증한 요청의 세션은 저장하지 않는다.")
+    @Test
+    void save_authenticatedBeforeRevocation() {
+        refreshTokenStore.removeByCustomerId(1L, NOW);
+
+        boolean staleSaved = refreshTokenStore.save(
+                "stale", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW.minusSeconds(1));
+        boolean freshSaved = refreshTokenStore.save(
+                "fresh", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW.plusSeconds(1));
+
+        assertAll(
+                () -> assertThat(staleSaved).isFalse(),
+                () -> assertThat(freshSaved).isTrue(),
+                () -> assertThat(refreshTokenStore.remove("stale")).isEmpty(),
+                () -> assertThat(refreshTokenStore.remove("fresh")).isPresent()
+        );
+    }
+
+    @DisplayName("꺼낸 세션은 회원의 세션 수에서 제외한다.")
+    @Test
+    void remove_releasesSessionSlot() {
+        IntStream.range(0, 3).forEach(i ->
+                refreshTokenStore.save("token" + i, new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW));
+        refreshTokenStore.remove("token1");
+
+        refreshTokenStore.save("token3", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW);
+
+        assertThat(refreshTokenStore.remove("token0")).isPresent();
+    }
+
+    @DisplayName("같은 세션을 동시에 꺼내면 한 요청만 성공한다.")
+    @Test
+    void remove_concurrently() throws Exception {
+        refreshTokenStore.save("token", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = IntStream.range(0, 32)
+                    .<Callable<Boolean>>mapToObj(i -> () -> refreshTokenStore.remove("token").isPresent())
+                    .collect(Collectors.toList());
+            long succeeded = 0;
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("스트라이프 수가 2의 거듭제곱이 아니면 예외를 발생시킨다.")
+    @Test
+    void constructor_invalidStripes() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new InMemoryRefreshTokenStore(3, 3));
+    }
+
+    @DisplayName("회원별 세션 수가 1 미만이면 예외를 발생시킨다.")
+    @Test
+    void constructor_invalidMaxSessions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new InMemoryRefreshTokenStore(4, 0));
+    }
+}
@@ -7,12 +7,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.shoppingcart.exception.AuthorizationException;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SpringBootTest
 @Transactional
 class JwtTokenProviderTest {
+    private static final String SECRET_KEY = "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb";
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
@@ -44,4 +49,60 @@ class JwtTokenProviderTest {
                 .isThrownBy(() -> jwtTokenProvider.getPayload("invalidToken"))
                 .withMessageContaining("로그인");
     }
-}
\ No newline at end of file
+
+    @DisplayName("토큰을 한 번 검증하여 subject와 만료 시각을 함께 조회한다.")
+    @Test
+    void verify() {
+        String token = jwtTokenProvider.createToken("forky");
+
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+
+        assertAll(
+                () -> assertThat(verifiedToken.getSubject()).isEqualTo("forky"),
+                () -> assertThat(verifiedToken.getExpiration()).isAfter(Instant.now())
+        );
+    }
+
+    @DisplayName("만료된 토큰을 검증할 경우 예외를 발생시킨다.")
+    @Test
+    void verifyExpiredToken() {
+        JwtTokenProvider expiredTokenProvider = new JwtTokenProvider(SECRET_KEY, -1000);
+        String token = expiredTokenProvider.createToken("forky");
+
+        assertThatExceptionOfType(AuthorizationException.class)
+                .isThrownBy(() -> expiredTokenProvider.verify(token));
+    }
+
+    @DisplayName("다른 키로 서명된 토큰을 검증할 경우 예외를 발생시킨다.")
+    @Test
+    void verifyTokenSignedByOtherKey() {
+        String token = new JwtTokenProvider(SECRET_KEY, 3600000).createToken("forky");
+
+        assertThatExceptionOfType(AuthorizationException.class)
+                .isThrownBy(() -> jwtTokenProvider.verify(token));
+    }
+
+    @DisplayName("검증 캐시를 사용하면 같은 토큰의 재검증 결과를 캐시에서 조회한다.")
+    @Test
+    void verifyWithCache() {
+        JwtTokenProvider cachingTokenProvider =
+                new JwtTokenProvider(SECRET_KEY, 3600000, true, 100, Duration.ofMinutes(10));
+        String token = cachingTokenProvider.createToken("forky");
+
+        VerifiedToken first = cachingTokenProvider.verify(token);
+        VerifiedToken second = cachingTokenProvider.verify(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @DisplayName("검증 캐시를 사용해도 만료된 토큰은 예외를 발생시킨다.")
+    @Test
+    void verifyExpiredTokenWithCache() {
+        JwtTokenProvider cachingTokenProvider =
+                new JwtTokenProvider(SECRET_KEY, -1000, true, 100, Duration.ofMinutes(10));
+        String token = cachingTokenProvider.createToken("forky");
+
+        assertThatExceptionOfType(AuthorizationException.class)
+                .isThrownBy(() -> cachingTokenProvider.verify(token));
+    }
+}
@@ -0,0 +1,37 @@
+package woowacourse.auth.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class Pbkdf2PasswordEncoderTest {
+    private final Pbkdf2PasswordEncoder passwordEncoder = new Pbkdf2PasswordEncoder(1000);
+    private final RawPassword rawPassword = new RawPassword("kth@12345");
+
+    @DisplayName("암호화된 비밀번호와 일치 여부를 확인한다.")
+    @Test
+    void matches() {
+        EncodePassword encodePassword = passwordEncoder.encode(rawPassword);
+
+        assertAll(
+                () -> assertThat(encodePassword.getPassword()).startsWith("{pbkdf2}1000$"),
+                () -> assertThat(passwordEncoder.matches(rawPassword, encodePassword)).isTrue(),
+                () -> assertThat(passwordEncoder.matches(new RawPassword("forky@1234"), encodePassword)).isFalse()
+        );
+    }
+
+    @DisplayName("현재 설정보다 적은 반복 횟수로 암호화된 비밀번호는 재암호화 대상이다.")
+    @Test
+    void upgradeEncoding() {
+        EncodePassword weakPassword = new Pbkdf2PasswordEncoder(500).encode(rawPassword);
+
+        assertAll(
+                () -> assertThat(passwordEncoder.upgradeEncoding(weakPassword)).isTrue(),
+                () -> assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode(rawPassword))).isFalse()
+        );
+    }
+}
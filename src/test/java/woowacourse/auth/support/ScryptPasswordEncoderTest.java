@@ -0,0 +1,64 @@
+package woowacourse.auth.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woowacourse.shoppingcart.domain.customer.EncodePassword;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ScryptPasswordEncoderTest {
+    private final ScryptPasswordEncoder passwordEncoder = new ScryptPasswordEncoder(16, 8, 1);
+    private final RawPassword rawPassword = new RawPassword("kth@12345");
+
+    @DisplayName("비밀번호를 암호화 파라미터와 함께 솔트를 붙여 암호화한다.")
+    @Test
+    void encode() {
+        EncodePassword first = passwordEncoder.encode(rawPassword);
+        EncodePassword second = passwordEncoder.encode(rawPassword);
+
+        assertAll(
+                () -> assertThat(first.getPassword()).startsWith("{scrypt}16$8$1$"),
+                () -> assertThat(first).isNotEqualTo(second)
+        );
+    }
+
+    @DisplayName("암호화된 비밀번호와 일치 여부를 확인한다.")
+    @Test
+    void matches() {
+        EncodePassword encodePassword = passwordEncoder.encode(rawPassword);
+
+        assertAll(
+                () -> assertThat(passwordEncoder.matches(rawPassword, encodePassword)).isTrue(),
+                () -> assertThat(passwordEncoder.matches(new RawPassword("forky@1234"), encodePassword)).isFalse()
+        );
+    }
+
+    @DisplayName("현재 설정보다 낮은 비용으로 암호화된 비밀번호는 재암호화 대상이다.")
+    @Test
+    void upgradeEncoding() {
+        EncodePassword weakPassword = new ScryptPasswordEncoder(8, 8, 1).encode(rawPassword);
+
+        assertAll(
+                () -> assertThat(passwordEncoder.upgradeEncoding(weakPassword)).isTrue(),
+                () -> assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode(rawPassword))).isFalse()
+        );
+    }
+
+    @DisplayName("cost가 2의 거듭제곱이 아니면 예외를 발생시킨다.")
+    @Test
+    void constructor_invalidCost() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ScryptPasswordEncoder(1000, 8, 1));
+    }
+
+    @DisplayName("형식이 올바르지 않은 암호화 비밀번호는 예외를 발생시킨다.")
+    @Test
+    void matches_invalidFormat() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> passwordEncoder.matches(rawPassword, new EncodePassword("{scrypt}16$8")));
+    }
+}
@@ -2,6 +2,8 @@ package woowacourse.shoppingcart.acceptance;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static woowacourse.shoppingcart.acceptance.ProductAcceptanceTest.상품_등록되어_있음;
 
@@ -52,6 +55,63 @@ public class OrderAcceptanceTest extends AcceptanceTest {
                 .header("Location", equalTo("/orders/1"));
     }
 
+    @DisplayName("주문 목록을 조회한다.")
+    @Test
+    void findOrders() {
+        주문_요청(List.of(productId1));
+
+        ExtractableResponse<Response> response = 주문_목록_조회_요청();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("orders.id", Long.class)).containsExactly(1L);
+        assertThat(response.jsonPath().getString("orders[0].orderDetails[0].product.name")).isEqualTo("치킨");
+    }
+
+    @DisplayName("주문 하나를 조회한다.")
+    @Test
+    void findOrder() {
+        주문_요청(List.of(productId1));
+
+        ExtractableResponse<Response> response = 주문_조회_요청(1L);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("orderDetails[0].quantity")).isEqualTo(1);
+    }
+
+    @DisplayName("존재하지 않는 주문을 조회하면 실패한다.")
+    @Test
+    void findOrder_notExist() {
+        ExtractableResponse<Response> response = 주문_조회_요청(999L);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private static void 주문_요청(List<Long> productIds) {
+        RestAssured.given().log().all()
+                .body(new ProductIdsRequest(productIds))
+                .auth().oauth2(testToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/orders")
+                .then().log().all();
+    }
+
+    private static ExtractableResponse<Response> 주문_목록_조회_요청() {
+        return RestAssured.given().log().all()
+                .auth().oauth2(testToken)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/orders")
+                .then().log().all()
+                .extract();
+    }
+
+    private static ExtractableResponse<Response> 주문_조회_요청(Long orderId) {
+        return RestAssured.given().log().all()
+                .auth().oauth2(testToken)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/orders/{orderId}", orderId)
+                .then().log().all()
+                .extract();
+    }
 
     private void signUpCustomer() {
         CustomerRequest customerRequest =
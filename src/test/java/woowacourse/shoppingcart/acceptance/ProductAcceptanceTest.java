@@ -39,6 +39,18 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         상품_목록_포함됨(productId1, productId2, response);
     }
 
+    @DisplayName("전체 상품 목록을 스트리밍으로 내보낸다")
+    @Test
+    void exportProducts() {
+        Long productId1 = 상품_등록되어_있음("치킨", 10_000, "http://example.com/chicken.jpg");
+        Long productId2 = 상품_등록되어_있음("맥주", 20_000, "http://example.com/beer.jpg");
+
+        ExtractableResponse<Response> response = 상품_목록_내보내기_요청();
+
+        조회_응답됨(response);
+        상품_목록_포함됨(productId1, productId2, response);
+    }
+
     @DisplayName("상품을 조회한다")
     @Test
     void getProduct() {
@@ -91,6 +103,14 @@ public class ProductAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 상품_목록_내보내기_요청() {
+        return RestAssured
+                .given().log().all()
+                .when().get("/products/export")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 상품_조회_요청(Long productId) {
         return RestAssured
                 .given().log().all()
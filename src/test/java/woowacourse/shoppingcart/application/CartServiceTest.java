@@ -7,9 +7,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
+import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.dto.*;
 import woowacourse.shoppingcart.exception.ExistCartItemException;
 import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
 
 import java.util.List;
 
@@ -28,6 +30,7 @@ class CartServiceTest {
             new ProductRequest("감자2", 400, "woowaPotato2.com");
     private ProductResponse productResponse1;
     private ProductResponse productResponse2;
+    private Long customerId;
 
     @Autowired
     private CartService cartService;
@@ -35,12 +38,16 @@ class CartServiceTest {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private CustomerDao customerDao;
+
     @Autowired
     private ProductService productService;
 
     @BeforeEach
     void init() {
         customerService.addCustomer(customerRequest);
+        customerId = customerDao.findIdByUsername(customerRequest.getUsername());
 
         Long product1Id = productService.addProduct(productRequest1);
         productResponse1 = ProductResponse.of(product1Id, productRequest1);
@@ -48,14 +55,14 @@ class CartServiceTest {
         Long product2Id = productService.addProduct(productRequest2);
         productResponse2 = ProductResponse.of(product2Id, productRequest2);
 
-        cartService.addCart(product1Id, "kth990303");
-        cartService.addCart(product2Id, "kth990303");
+        cartService.addCart(product1Id, customerId);
+        cartService.addCart(product2Id, customerId);
     }
 
     @DisplayName("구매자의 장바구니 상품 목록을 조회한다.")
     @Test
     void findCartsByCustomerName() {
-        CartResponse cartResponse = cartService.findCartItemsByCustomerUsername("kth990303");
+        CartResponse cartResponse = cartService.findCartItemsByCustomerId(customerId);
         CartItemResponse cartItemResponse1 = new CartItemResponse(productResponse1, 1);
         CartItemResponse cartItemResponse2 = new CartItemResponse(productResponse2, 1);
 
@@ -68,16 +75,16 @@ class CartServiceTest {
     @Test
     void addDuplicateCartItem() {
         assertThatExceptionOfType(ExistCartItemException.class)
-                .isThrownBy(() -> cartService.addCart(productResponse2.getId(), "kth990303"))
+                .isThrownBy(() -> cartService.addCart(productResponse2.getId(), customerId))
                 .withMessageContaining("이미");
     }
 
     @DisplayName("장바구니에 존재하는 상품의 수량을 변경한다.")
     @Test
     void updateCartItemQuantity() {
-        cartService.updateCartItemQuantity(3, productResponse1.getId(), "kth990303");
+        cartService.updateCartItemQuantity(3, productResponse1.getId(), customerId);
 
-        CartResponse cartResponse = cartService.findCartItemsByCustomerUsername("kth990303");
+        CartResponse cartResponse = cartService.findCartItemsByCustomerId(customerId);
         CartItemResponse cartItemResponse1 = new CartItemResponse(productResponse1, 3);
         CartItemResponse cartItemResponse2 = new CartItemResponse(productResponse2, 1);
 
@@ -91,16 +98,16 @@ class CartServiceTest {
     void updateCartItemQuantity_invalidProduct() {
         assertThatExceptionOfType(InvalidCartItemException.class)
                 .isThrownBy(() -> cartService.updateCartItemQuantity(3,
-                        productResponse2.getId() + 100L, "kth990303"))
+                        productResponse2.getId() + 100L, customerId))
                 .withMessageContaining("장바구니");
     }
 
     @DisplayName("장바구니를 비운다.")
     @Test
     void deleteCart() {
-        cartService.deleteCart("kth990303");
+        cartService.deleteCart(customerId);
 
-        CartResponse cartResponse = cartService.findCartItemsByCustomerUsername("kth990303");
+        CartResponse cartResponse = cartService.findCartItemsByCustomerId(customerId);
 
         assertThat(cartResponse.getCartItems().size()).isEqualTo(0);
     }
@@ -108,9 +115,9 @@ class CartServiceTest {
     @DisplayName("장바구니에 존재하는 상품을 삭제한다.")
     @Test
     void deleteCartItem() {
-        cartService.deleteCartItem("kth990303", List.of(productResponse1.getId()));
+        cartService.deleteCartItem(customerId, List.of(productResponse1.getId()));
 
-        CartResponse cartResponse = cartService.findCartItemsByCustomerUsername("kth990303");
+        CartResponse cartResponse = cartService.findCartItemsByCustomerId(customerId);
         CartItemResponse cartItemResponse1 = new CartItemResponse(productResponse1, 1);
         CartItemResponse cartItemResponse2 = new CartItemResponse(productResponse2, 1);
 
@@ -119,4 +126,13 @@ class CartServiceTest {
                 .isNotEqualTo(List.of(cartItemResponse1))
                 .isEqualTo(List.of(cartItemResponse2));
     }
-}
\ No newline at end of file
+
+    @DisplayName("삭제하려는 상품 중 장바구니에 없는 상품이 있을 경우 예외를 발생시킨다.")
+    @Test
+    void deleteCartItem_notInCart() {
+        List<Long> productIds = List.of(productResponse1.getId(), productResponse2.getId() + 100L);
+
+        assertThatExceptionOfType(NotInCustomerCartItemException.class)
+                .isThrownBy(() -> cartService.deleteCartItem(customerId, productIds));
+    }
+}
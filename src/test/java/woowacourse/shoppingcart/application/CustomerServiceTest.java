@@ -7,6 +7,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.auth.support.HashPasswordEncoder;
 import woowacourse.shoppingcart.dao.CustomerDao;
@@ -39,6 +40,12 @@ class CustomerServiceTest {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private CustomerCache customerCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @DisplayName("회원을 성공적으로 가입시킨다.")
     @Test
     void addCustomer() {
@@ -48,6 +55,18 @@ class CustomerServiceTest {
         assertThat(actual.getUsername()).isEqualTo(customerRequest1.getUsername());
     }
 
+    @DisplayName("트랜잭션 밖에서 가입해도 암호화한 비밀번호로 회원을 저장한다.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void addCustomer_withoutTransaction() {
+        customerService.addCustomer(customerRequest1);
+
+        Customer actual = customerDao.findCustomerByUsername(customerRequest1.getUsername())
+                .orElseThrow(InvalidCustomerException::new);
+        assertThat(passwordEncoder.matches(
+                new RawPassword(customerRequest1.getPassword()), new EncodePassword(actual.getPassword()))).isTrue();
+    }
+
     @DisplayName("중복된 회원을 가입시키려할 때 예외를 발생시킨다.")
     @Test
     void addCustomer_duplicated() {
@@ -60,6 +79,7 @@ class CustomerServiceTest {
     @ParameterizedTest
     @DisplayName("중복 여부를 검사한다.")
     @CsvSource({"forky, true", "kth990303, false"})
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void checkDuplication(String username, boolean expected) {
         customerService.addCustomer(customerRequest1);
         UsernameDuplicationResponse response = customerService.checkDuplication(username);
@@ -70,8 +90,8 @@ class CustomerServiceTest {
     @Test
     void updatePassword() {
         customerService.addCustomer(customerRequest1);
-        Customer customer = Customer.of(customerRequest1.getUsername(), encode(customerRequest1.getPassword()),
-                customerRequest1.getNickname(), customerRequest1.getAge());
+        Customer customer = customerDao.findCustomerByUsername(customerRequest1.getUsername())
+                .orElseThrow(InvalidCustomerException::new);
 
         String newPassword = "forky@forky123";
         PasswordRequest passwordRequest = new PasswordRequest("kth@@123", newPassword);
@@ -79,15 +99,33 @@ class CustomerServiceTest {
 
         Customer actual = customerDao.findCustomerByUsername(customerRequest1.getUsername())
                 .orElseThrow(InvalidCustomerException::new);
-        assertThat(actual.getPassword()).isEqualTo(encode(newPassword).getPassword());
+        assertThat(passwordEncoder.matches(new RawPassword(newPassword), new EncodePassword(actual.getPassword())))
+                .isTrue();
+    }
+
+    @DisplayName("트랜잭션 밖에서 비밀번호를 변경해도 새 비밀번호를 저장한다.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updatePassword_withoutTransaction() {
+        customerService.addCustomer(customerRequest1);
+        Customer customer = customerDao.findCustomerByUsername(customerRequest1.getUsername())
+                .orElseThrow(InvalidCustomerException::new);
+
+        String newPassword = "forky@forky123";
+        customerService.updatePassword(customer, new PasswordRequest(customerRequest1.getPassword(), newPassword));
+
+        Customer actual = customerDao.findCustomerByUsername(customerRequest1.getUsername())
+                .orElseThrow(InvalidCustomerException::new);
+        assertThat(passwordEncoder.matches(new RawPassword(newPassword), new EncodePassword(actual.getPassword())))
+                .isTrue();
     }
 
     @DisplayName("비밀번호를 변경할 때, 올바르지 않은 기존 비밀번호를 보낼 경우 예외를 발생시킨다.")
     @Test
     void updatePassword_invalidOldPassword() {
         customerService.addCustomer(customerRequest1);
-        Customer customer = Customer.of(customerRequest1.getUsername(), encode(customerRequest1.getPassword()),
-                customerRequest1.getNickname(), customerRequest1.getAge());
+        Customer customer = customerDao.findCustomerByUsername(customerRequest1.getUsername())
+                .orElseThrow(InvalidCustomerException::new);
 
         String newPassword = "forky@forky123";
         PasswordRequest passwordRequest = new PasswordRequest(newPassword, newPassword);
@@ -118,13 +156,32 @@ class CustomerServiceTest {
         );
     }
 
+    @DisplayName("조회된 적 있는 회원의 정보를 변경하면 변경된 정보가 조회된다.")
+    @Test
+    void updateInfo_evictCachedCustomer() {
+        customerService.addCustomer(customerRequest1);
+        Customer originCustomer = customerCache.findCustomerByUsername(customerRequest1.getUsername())
+                .orElseThrow(InvalidCustomerException::new);
+        CustomerRequest updateCustomer =
+                new CustomerRequest(originCustomer.getUsername(), customerRequest1.getPassword(), "김태현", 27);
+
+        customerService.updateInfo(originCustomer, updateCustomer);
+
+        Customer actual = customerCache.findCustomerByUsername(customerRequest1.getUsername())
+                .orElseThrow(InvalidCustomerException::new);
+        assertAll(
+                () -> assertThat(actual.getNickname()).isEqualTo("김태현"),
+                () -> assertThat(actual.getAge()).isEqualTo(27)
+        );
+    }
+
     @DisplayName("회원 정보를 삭제한다")
     @Test
     void delete() {
         customerService.addCustomer(customerRequest1);
 
-        Customer customer = Customer.of(customerRequest1.getUsername(), encode(customerRequest1.getPassword()),
-                customerRequest1.getNickname(), customerRequest1.getAge());
+        Customer customer = customerDao.findCustomerByUsername(customerRequest1.getUsername())
+                .orElseThrow(InvalidCustomerException::new);
         customerService.deleteCustomer(customer);
 
         assertThatExceptionOfType(InvalidCustomerException.class)
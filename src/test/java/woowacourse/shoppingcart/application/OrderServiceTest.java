@@ -7,17 +7,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
+import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.dao.OrdersDetailDao;
 import woowacourse.shoppingcart.domain.OrderDetail;
 import woowacourse.shoppingcart.dto.CustomerRequest;
+import woowacourse.shoppingcart.dto.OrderResponse;
+import woowacourse.shoppingcart.dto.OrdersResponse;
 import woowacourse.shoppingcart.dto.ProductRequest;
 import woowacourse.shoppingcart.dto.ProductResponse;
+import woowacourse.shoppingcart.exception.InvalidOrderException;
 import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SpringBootTest
 @Transactional
@@ -31,6 +36,7 @@ class OrderServiceTest {
             new ProductRequest("감자2", 400, "woowaPotato2.com");
     private ProductResponse productResponse1;
     private ProductResponse productResponse2;
+    private Long customerId;
 
     @Autowired
     private CartService cartService;
@@ -41,6 +47,9 @@ class OrderServiceTest {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private CustomerDao customerDao;
+
     @Autowired
     private OrdersDetailDao ordersDetailDao;
 
@@ -50,6 +59,7 @@ class OrderServiceTest {
     @BeforeEach
     void init() {
         customerService.addCustomer(customerRequest);
+        customerId = customerDao.findIdByUsername(customerRequest.getUsername());
 
         Long product1Id = productService.addProduct(productRequest1);
         productResponse1 = ProductResponse.of(product1Id, productRequest1);
@@ -57,15 +67,15 @@ class OrderServiceTest {
         Long product2Id = productService.addProduct(productRequest2);
         productResponse2 = ProductResponse.of(product2Id, productRequest2);
 
-        cartService.addCart(product1Id, "kth990303");
-        cartService.addCart(product2Id, "kth990303");
+        cartService.addCart(product1Id, customerId);
+        cartService.addCart(product2Id, customerId);
     }
 
     @DisplayName("장바구니 상품들을 주문에 담는다.")
     @Test
     void addOrder() {
         List<Long> productIds = List.of(productResponse1.getId(), productResponse2.getId());
-        Long orderId = orderService.addOrder(productIds, "kth990303");
+        Long orderId = orderService.addOrder(productIds, customerId);
 
         List<OrderDetail> orderDetails = ordersDetailDao.findOrdersDetailsByOrderId(orderId);
 
@@ -78,7 +88,68 @@ class OrderServiceTest {
         List<Long> invalidProductIds = List.of(productResponse1.getId() + 100L, productResponse2.getId() + 100L);
 
         assertThatExceptionOfType(NotInCustomerCartItemException.class)
-                .isThrownBy(() -> orderService.addOrder(invalidProductIds, "kth990303"))
+                .isThrownBy(() -> orderService.addOrder(invalidProductIds, customerId))
+                .withMessageContaining("존재");
+    }
+
+    @DisplayName("주문하려는 상품 중 일부만 장바구니에 존재할 경우 예외를 발생시킨다.")
+    @Test
+    void addOrder_partiallyNotExistItemsInCart() {
+        List<Long> productIds = List.of(productResponse1.getId(), productResponse2.getId() + 100L);
+
+        assertThatExceptionOfType(NotInCustomerCartItemException.class)
+                .isThrownBy(() -> orderService.addOrder(productIds, customerId));
+    }
+
+    @DisplayName("같은 상품을 중복으로 주문에 담으면 한 번만 담긴다.")
+    @Test
+    void addOrder_duplicatedProductIds() {
+        List<Long> productIds = List.of(productResponse1.getId(), productResponse1.getId());
+        Long orderId = orderService.addOrder(productIds, customerId);
+
+        List<OrderDetail> orderDetails = ordersDetailDao.findOrdersDetailsByOrderId(orderId);
+
+        assertThat(orderDetails).hasSize(1);
+    }
+
+    @DisplayName("주문 목록을 페이지 단위로 조회하고 다음 커서를 반환한다.")
+    @Test
+    void findOrders() {
+        Long firstOrderId = orderService.addOrder(List.of(productResponse1.getId()), customerId);
+        Long secondOrderId = orderService.addOrder(List.of(productResponse2.getId()), customerId);
+
+        OrdersResponse firstPage = orderService.findOrders(customerId, null, 1);
+        OrdersResponse secondPage = orderService.findOrders(customerId, firstPage.getNextCursor(), 1);
+
+        assertAll(
+                () -> assertThat(firstPage.getOrders()).extracting(OrderResponse::getId).containsExactly(firstOrderId),
+                () -> assertThat(firstPage.getNextCursor()).isEqualTo(firstOrderId),
+                () -> assertThat(secondPage.getOrders()).extracting(OrderResponse::getId)
+                        .containsExactly(secondOrderId),
+                () -> assertThat(secondPage.getNextCursor()).isNull()
+        );
+    }
+
+    @DisplayName("주문 아이디로 주문 상세와 상품 정보를 조회한다.")
+    @Test
+    void findOrder() {
+        Long orderId = orderService.addOrder(List.of(productResponse1.getId()), customerId);
+
+        OrderResponse orderResponse = orderService.findOrder(customerId, orderId);
+
+        assertAll(
+                () -> assertThat(orderResponse.getId()).isEqualTo(orderId),
+                () -> assertThat(orderResponse.getOrderDetails().get(0).getProduct().getName())
+                        .isEqualTo(productRequest1.getName()),
+                () -> assertThat(orderResponse.getOrderDetails().get(0).getQuantity()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("존재하지 않는 주문을 조회할 경우 예외를 발생시킨다.")
+    @Test
+    void findOrder_notExistOrder() {
+        assertThatExceptionOfType(InvalidOrderException.class)
+                .isThrownBy(() -> orderService.findOrder(customerId, 999L))
                 .withMessageContaining("존재");
     }
 }
@@ -11,12 +11,14 @@ import woowacourse.shoppingcart.domain.Product;
 import woowacourse.shoppingcart.dto.ProductRequest;
 import woowacourse.shoppingcart.dto.ProductResponse;
 import woowacourse.shoppingcart.dto.ProductsResponse;
+import woowacourse.shoppingcart.exception.InvalidArgumentRequestException;
 import woowacourse.shoppingcart.exception.InvalidProductException;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SpringBootTest
 @Transactional
@@ -50,9 +52,39 @@ class ProductServiceTest {
         productService.addProduct(productRequest1);
         productService.addProduct(productRequest2);
 
-        ProductsResponse actual = productService.findProducts();
+        ProductsResponse actual = productService.findProducts(null, 20);
 
-        assertThat(actual.getProducts().size()).isEqualTo(2);
+        assertAll(
+                () -> assertThat(actual.getProducts().size()).isEqualTo(2),
+                () -> assertThat(actual.getNextCursor()).isNull()
+        );
+    }
+
+    @DisplayName("상품 목록을 페이지 크기만큼 조회하고, 다음 cursor로 이어서 조회한다.")
+    @Test
+    void findProducts_nextCursor() {
+        Long product1Id = productService.addProduct(productRequest1);
+        Long product2Id = productService.addProduct(productRequest2);
+
+        ProductsResponse firstPage = productService.findProducts(null, 1);
+        ProductsResponse secondPage = productService.findProducts(firstPage.getNextCursor(), 1);
+
+        assertAll(
+                () -> assertThat(firstPage.getProducts()).extracting(ProductResponse::getId)
+                        .containsExactly(product1Id),
+                () -> assertThat(firstPage.getNextCursor()).isEqualTo(product1Id),
+                () -> assertThat(secondPage.getProducts()).extracting(ProductResponse::getId)
+                        .containsExactly(product2Id),
+                () -> assertThat(secondPage.getNextCursor()).isNull()
+        );
+    }
+
+    @DisplayName("허용 범위를 벗어난 페이지 크기로 상품 목록을 조회할 경우 예외를 발생시킨다.")
+    @Test
+    void findProducts_invalidPageSize() {
+        assertThatExceptionOfType(InvalidArgumentRequestException.class)
+                .isThrownBy(() -> productService.findProducts(null, 101))
+                .withMessageContaining("페이지 크기");
     }
 
     @DisplayName("상품 아이디로 단일 상품을 조회한다.")
@@ -76,13 +108,25 @@ class ProductServiceTest {
                 .withMessageContaining("존재");
     }
 
+    @DisplayName("조회된 적 있는 상품을 삭제하면 더 이상 조회되지 않는다.")
+    @Test
+    void deleteProduct_evictCachedProduct() {
+        Long product1Id = productService.addProduct(productRequest1);
+        productService.findProductById(product1Id);
+
+        productService.deleteProductById(product1Id);
+
+        assertThatExceptionOfType(InvalidProductException.class)
+                .isThrownBy(() -> productService.findProductById(product1Id));
+    }
+
     @DisplayName("상품 아이디로 상품을 삭제한다.")
     @Test
     void deleteProduct() {
         Long product1Id = productService.addProduct(productRequest1);
         productService.deleteProductById(product1Id);
 
-        List<Product> actual = productDao.findProducts();
+        List<Product> actual = productDao.findProductsAfter(0L, 100);
 
         assertThat(actual.size()).isEqualTo(0);
     }
@@ -0,0 +1,126 @@
+package woowacourse.shoppingcart.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.transaction.TestTransaction;
+import woowacourse.auth.support.HashPasswordEncoder;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Sql(scripts = {"classpath:test_schema.sql", "classpath:data.sql"})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class UsernameFilterTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final CustomerDao customerDao;
+    private final UsernameFilter usernameFilter;
+
+    public UsernameFilterTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        customerDao = new CustomerDao(jdbcTemplate);
+        usernameFilter = new UsernameFilter(customerDao, 0.01, Duration.ofHours(1));
+    }
+
+    @DisplayName("필터가 만들어지기 전에는 DB로 가입 여부를 확인한다.")
+    @Test
+    void isRegistered_beforeRebuild() {
+        assertAll(
+                () -> assertThat(usernameFilter.isRegistered("puterism")).isTrue(),
+                () -> assertThat(usernameFilter.isRegistered("kth990303")).isFalse()
+        );
+    }
+
+    @DisplayName("필터를 만들면 기존 회원 아이디를 가입된 것으로 판단한다.")
+    @Test
+    void isRegistered_afterRebuild() {
+        usernameFilter.rebuild();
+
+        assertAll(
+                () -> assertThat(usernameFilter.isRegistered("puterism")).isTrue(),
+                () -> assertThat(usernameFilter.isRegistered("kth990303")).isFalse()
+        );
+    }
+
+    @DisplayName("필터를 만든 뒤 가입한 아이디를 등록하면 가입된 것으로 판단한다.")
+    @Test
+    void register() {
+        usernameFilter.rebuild();
+        Customer customer = Customer.of("kth990303",
+                new HashPasswordEncoder().encode(new RawPassword("kth@990303")), "케이", 23);
+        customerDao.save(customer);
+
+        usernameFilter.register(customer.getUsername());
+
+        assertThat(usernameFilter.isRegistered("kth990303")).isTrue();
+    }
+
+    @DisplayName("트랜잭션 안에서 가입한 아이디는 커밋된 뒤에 필터에 등록한다.")
+    @Test
+    void registerAfterCommit() {
+        usernameFilter.rebuild();
+        Customer customer = Customer.of("kth990303",
+                new HashPasswordEncoder().encode(new RawPassword("kth@990303")), "케이", 23);
+        customerDao.save(customer);
+
+        usernameFilter.registerAfterCommit(customer.getUsername());
+        boolean registeredBeforeCommit = usernameFilter.isRegistered("kth990303");
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertAll(
+                () -> assertThat(registeredBeforeCommit).isFalse(),
+                () -> assertThat(usernameFilter.isRegistered("kth990303")).isTrue()
+        );
+    }
+
+    @DisplayName("필터를 다시 만드는 동안 등록된 아이디도 새 필터에 포함한다.")
+    @Test
+    void rebuild_registeredWhileScanning() {
+        Customer customer = Customer.of("kth990303",
+                new HashPasswordEncoder().encode(new RawPassword("kth@990303")), "케이", 23);
+        UsernameFilter[] rebuildingFilter = new UsernameFilter[1];
+        CustomerDao scanningCustomerDao = new CustomerDao(jdbcTemplate) {
+            @Override
+            public void streamUsernames(Consumer<String> consumer) {
+                super.streamUsernames(consumer);
+                save(customer);
+                rebuildingFilter[0].register(customer.getUsername());
+            }
+        };
+        rebuildingFilter[0] = new UsernameFilter(scanningCustomerDao, 0.01, Duration.ofHours(1));
+
+        rebuildingFilter[0].rebuild();
+
+        assertThat(rebuildingFilter[0].isRegistered("kth990303")).isTrue();
+    }
+
+    @DisplayName("필터가 만들어진 지 max-staleness가 지나면 다른 곳에서 가입한 아이디를 DB로 확인한다.")
+    @Test
+    void isRegistered_staleFilter() {
+        UsernameFilter staleFilter = new UsernameFilter(customerDao, 0.01, Duration.ZERO);
+        usernameFilter.rebuild();
+        staleFilter.rebuild();
+
+        customerDao.save(Customer.of("kth990303",
+                new HashPasswordEncoder().encode(new RawPassword("kth@990303")), "케이", 23));
+
+        assertAll(
+                () -> assertThat(usernameFilter.isRegistered("kth990303")).isFalse(),
+                () -> assertThat(staleFilter.isRegistered("kth990303")).isTrue()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package woowacourse.shoppingcart.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProdDataSourcePropertiesTest {
+
+    @DisplayName("운영 프로필은 MySQL 드라이버에 useCursorFetch를 전달해 상품 내보내기가 fetch size 단위로 읽히게 한다.")
+    @Test
+    void useCursorFetch() throws IOException {
+        List<PropertySource<?>> documents = new YamlPropertySourceLoader()
+                .load("application.yml", new FileSystemResource("src/main/resources/application.yml"));
+        PropertySource<?> prod = documents.stream()
+                .filter(document -> "prod".equals(String.valueOf(document.getProperty("spring.config.activate.on-profile"))))
+                .findFirst()
+                .orElseThrow();
+
+        HikariConfig hikariConfig = new Binder(ConfigurationPropertySources.from(prod))
+                .bind("spring.datasource.hikari", Bindable.ofInstance(new HikariConfig()))
+                .get();
+
+        assertThat(hikariConfig.getDataSourceProperties().getProperty("useCursorFetch")).isEqualTo("true");
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.jdbc.Sql;
@@ -13,10 +14,12 @@ import woowacourse.shoppingcart.domain.Cart;
 import woowacourse.shoppingcart.domain.CartItem;
 import woowacourse.shoppingcart.domain.Product;
 import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.InvalidProductException;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 @JdbcTest
@@ -28,7 +31,7 @@ public class CartDaoTest {
     private final ProductDao productDao;
     private final JdbcTemplate jdbcTemplate;
 
-    private static final String CART_TEST_USERNAME = "puterism";
+    private static final Long CART_TEST_CUSTOMER_ID = 1L;
 
     public CartDaoTest(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
@@ -41,14 +44,14 @@ public class CartDaoTest {
         productDao.save(new Product("banana", 1_000, "woowa1.com"));
         productDao.save(new Product("apple", 2_000, "woowa2.com"));
 
-        cartDao.addCartItem(CART_TEST_USERNAME, 1L);
-        cartDao.addCartItem(CART_TEST_USERNAME, 2L);
+        cartDao.addCartItem(CART_TEST_CUSTOMER_ID, 1L);
+        cartDao.addCartItem(CART_TEST_CUSTOMER_ID, 2L);
     }
 
     @DisplayName("장바구니가 올바르게 생성된다.")
     @Test
     void addCart() {
-        Cart cart = new Cart(cartDao.findCartItemsByCustomerUsername(CART_TEST_USERNAME));
+        Cart cart = new Cart(cartDao.findCartItemsByCustomerId(CART_TEST_CUSTOMER_ID));
 
         assertThat(cart.getCartItems()).hasSize(2);
     }
@@ -57,7 +60,7 @@ public class CartDaoTest {
     @Test
     void findCartsByCustomerId() {
         // when
-        final List<CartItem> cartItems = cartDao.findCartItemsByCustomerUsername(CART_TEST_USERNAME);
+        final List<CartItem> cartItems = cartDao.findCartItemsByCustomerId(CART_TEST_CUSTOMER_ID);
 
         // then
         assertAll(
@@ -70,7 +73,7 @@ public class CartDaoTest {
     @Test
     void findProductIdsByCustomerId() {
         // when
-        final List<Long> productIds = cartDao.findProductIdsByCustomerUsername(CART_TEST_USERNAME);
+        final List<Long> productIds = cartDao.findProductIdsByCustomerId(CART_TEST_CUSTOMER_ID);
 
         // then
         assertThat(productIds).containsAll(List.of(1L, 2L));
@@ -80,7 +83,7 @@ public class CartDaoTest {
     @Test
     void findCart() {
         // when
-        CartItem cartItem = cartDao.findCartItemByProductId(1L, CART_TEST_USERNAME)
+        CartItem cartItem = cartDao.findCartItemByProductId(1L, CART_TEST_CUSTOMER_ID)
                 .orElseThrow(InvalidCartItemException::new);
 
         // then
@@ -90,6 +93,17 @@ public class CartDaoTest {
         );
     }
 
+    @DisplayName("구매자 username과 상품 id 목록으로 장바구니에 담긴 상품 정보를 한 번에 가져온다.")
+    @Test
+    void findCartItemsByProductIds() {
+        // when
+        final List<CartItem> cartItems = cartDao.findCartItemsByProductIds(List.of(1L, 2L, 3L), CART_TEST_CUSTOMER_ID);
+
+        // then
+        assertThat(cartItems).extracting(cartItem -> cartItem.getProduct().getName())
+                .containsExactlyInAnyOrder("banana", "apple");
+    }
+
     @DisplayName("장바구니에 상품을 성공적으로 담는다.")
     @Test
     void addCartItem() {
@@ -97,18 +111,32 @@ public class CartDaoTest {
         final Long productId = productDao.save(new Product("kiwi", 3_000, "woowakiwi.com"));
 
         // when
-        final Long actual = cartDao.addCartItem(CART_TEST_USERNAME, productId);
+        final Long actual = cartDao.addCartItem(CART_TEST_CUSTOMER_ID, productId);
 
         // then
         assertThat(actual).isEqualTo(productId);
     }
 
+    @DisplayName("이미 담긴 상품을 다시 담으면 예외를 발생시킨다.")
+    @Test
+    void addCartItem_duplicated() {
+        assertThatExceptionOfType(DuplicateKeyException.class)
+                .isThrownBy(() -> cartDao.addCartItem(CART_TEST_CUSTOMER_ID, 1L));
+    }
+
+    @DisplayName("존재하지 않는 상품을 담으면 예외를 발생시킨다.")
+    @Test
+    void addCartItem_notExistProduct() {
+        assertThatExceptionOfType(InvalidProductException.class)
+                .isThrownBy(() -> cartDao.addCartItem(CART_TEST_CUSTOMER_ID, 999L));
+    }
+
     @DisplayName("장바구니 상품의 수량을 변경한다.")
     @Test
     void updateCartItemQuantity() {
-        cartDao.updateCartItemQuantity(3, 2L, CART_TEST_USERNAME);
+        cartDao.updateCartItemQuantity(3, 2L, CART_TEST_CUSTOMER_ID);
 
-        final List<CartItem> cartItems = cartDao.findCartItemsByCustomerUsername(CART_TEST_USERNAME);
+        final List<CartItem> cartItems = cartDao.findCartItemsByCustomerId(CART_TEST_CUSTOMER_ID);
 
         assertThat(cartItems.get(1).getQuantity()).isEqualTo(3);
     }
@@ -118,22 +146,25 @@ public class CartDaoTest {
     void deleteCartItem() {
         // given
         final Long productId = productDao.save(new Product("kiwi", 3_000, "woowakiwi.com"));
-        cartDao.addCartItem(CART_TEST_USERNAME, productId);
+        cartDao.addCartItem(CART_TEST_CUSTOMER_ID, productId);
 
         // when
-        cartDao.deleteCartItem(List.of(productId), CART_TEST_USERNAME);
-        final List<Long> productIds = cartDao.findProductIdsByCustomerUsername(CART_TEST_USERNAME);
+        final int deletedCount = cartDao.deleteCartItem(List.of(productId, 999L), CART_TEST_CUSTOMER_ID);
+        final List<Long> productIds = cartDao.findProductIdsByCustomerId(CART_TEST_CUSTOMER_ID);
 
         // then
-        assertThat(productIds).doesNotContain(productId);
+        assertAll(
+                () -> assertThat(deletedCount).isEqualTo(1),
+                () -> assertThat(productIds).doesNotContain(productId)
+        );
     }
 
     @DisplayName("장바구니를 성공적으로 비운다.")
     @Test
     void deleteCart() {
         // when
-        cartDao.deleteAllCartItems(CART_TEST_USERNAME);
-        final List<CartItem> actual = cartDao.findCartItemsByCustomerUsername("puterism");
+        cartDao.deleteAllCartItems(CART_TEST_CUSTOMER_ID);
+        final List<CartItem> actual = cartDao.findCartItemsByCustomerId(CART_TEST_CUSTOMER_ID);
 
         // then
         assertThat(actual.size()).isEqualTo(0);
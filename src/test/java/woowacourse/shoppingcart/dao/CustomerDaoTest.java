@@ -2,6 +2,8 @@ package woowacourse.shoppingcart.dao;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
@@ -25,9 +27,11 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 public class CustomerDaoTest {
 
+    private final JdbcTemplate jdbcTemplate;
     private final CustomerDao customerDao;
 
     public CustomerDaoTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
         customerDao = new CustomerDao(jdbcTemplate);
     }
 
@@ -73,6 +77,13 @@ public class CustomerDaoTest {
         assertThat(customerId).isEqualTo(16L);
     }
 
+    @DisplayName("username이 이미 존재하는지 확인한다.")
+    @ParameterizedTest
+    @CsvSource({"puterism, true", "kth990303, false"})
+    void existsByUsername(String username, boolean expected) {
+        assertThat(customerDao.existsByUsername(username)).isEqualTo(expected);
+    }
+
     @DisplayName("비밀번호를 업데이트한다.")
     @Test
     void updatePassword() {
@@ -88,6 +99,24 @@ public class CustomerDaoTest {
         assertThat(actual.getPassword()).isEqualTo(expected.getPassword());
     }
 
+    @DisplayName("읽어 둔 비밀번호가 그대로일 때만 비밀번호를 바꾼다.")
+    @Test
+    void updatePasswordIfUnchanged() {
+        Customer given = Customer.of("forky", encode("forky@1234"), "복희", 26);
+        customerDao.save(given);
+        String changedPassword = encode("forky@5678").getPassword();
+        customerDao.updatePassword(changedPassword, given.getUsername());
+
+        boolean updated = customerDao.updatePasswordIfUnchanged(
+                encode("forky@1234").getPassword(), given.getUsername(), given.getPassword());
+
+        assertAll(
+                () -> assertThat(updated).isFalse(),
+                () -> assertThat(customerDao.findCustomerByUsername(given.getUsername()).orElseThrow().getPassword())
+                        .isEqualTo(changedPassword)
+        );
+    }
+
     @DisplayName("비밀번호를 제외한 회원 정보를 업데이트한다.")
     @Test
     void updateInfo() {
@@ -119,6 +148,19 @@ public class CustomerDaoTest {
                 .withMessageContaining("존재");
     }
 
+    @DisplayName("회원을 삭제해도 주문 내역은 회원 참조만 비운 채 남는다.")
+    @Test
+    void delete_keepsOrders() {
+        Customer given = Customer.of("forky", encode("forky@1234"), "복희", 26);
+        Long customerId = customerDao.save(given);
+        Long orderId = new OrderDao(jdbcTemplate).addOrders(customerId);
+
+        customerDao.delete(given);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT customer_id FROM orders WHERE id = ?", Long.class, orderId))
+                .isNull();
+    }
+
     private EncodePassword encode(String rawPassword) {
         RawPassword password = new RawPassword(rawPassword);
         PasswordEncoder passwordEncoder = new HashPasswordEncoder();
@@ -0,0 +1,97 @@
+package woowacourse.shoppingcart.dao;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MigrationTest {
+
+    @DisplayName("마이그레이션을 빈 데이터베이스에 적용하고, 다시 실행하면 아무것도 적용하지 않는다.")
+    @Test
+    void migrate() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .load();
+
+        int firstMigrations = flyway.migrate().migrationsExecuted;
+        int secondMigrations = flyway.migrate().migrationsExecuted;
+        Integer productCount = new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM product", Integer.class);
+
+        assertAll(
+                () -> assertThat(firstMigrations).isEqualTo(7),
+                () -> assertThat(secondMigrations).isZero(),
+                () -> assertThat(productCount).isEqualTo(3)
+        );
+    }
+
+    @DisplayName("장바구니와 주문의 회원 참조를 username에서 회원 아이디로 옮긴다.")
+    @Test
+    void migrateCustomerReferenceToId() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:customer_reference;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("2").load().migrate();
+        jdbcTemplate.update("INSERT INTO customer (username, password, nickname, age) VALUES ('puterism', 'a', 'b', 20)");
+        jdbcTemplate.update("INSERT INTO cart_item (customer_username, product_id, quantity) VALUES ('puterism', 1, 1)");
+        jdbcTemplate.update("INSERT INTO orders (customer_username) VALUES ('puterism')");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        Long customerId = jdbcTemplate.queryForObject("SELECT id FROM customer WHERE username = 'puterism'", Long.class);
+        assertAll(
+                () -> assertThat(jdbcTemplate.queryForObject("SELECT customer_id FROM cart_item", Long.class))
+                        .isEqualTo(customerId),
+                () -> assertThat(jdbcTemplate.queryForObject("SELECT customer_id FROM orders", Long.class))
+                        .isEqualTo(customerId)
+        );
+    }
+
+    @DisplayName("탈퇴한 회원의 주문과 주문이 없는 주문 상세는 지우지 않고 회원 참조만 비워 남긴다.")
+    @Test
+    void keepOrphanedOrders() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:orphaned_orders;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        jdbcTemplate.update("INSERT INTO orders (id, customer_username) VALUES (1, 'withdrawn')");
+        jdbcTemplate.update("INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (1, 1, 2)");
+        jdbcTemplate.update("INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (2, 1, 3)");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertAll(
+                () -> assertThat(jdbcTemplate.queryForList(
+                        "SELECT id FROM orders WHERE customer_id IS NULL ORDER BY id", Long.class))
+                        .containsExactly(1L, 2L),
+                () -> assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders_detail", Integer.class))
+                        .isEqualTo(2)
+        );
+    }
+
+    @DisplayName("회원 아이디는 id 구간별로 나누어 채운다.")
+    @Test
+    void backfillCustomerIdInBatches() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:customer_id_batches;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("2").load().migrate();
+        jdbcTemplate.update("INSERT INTO customer (username, password, nickname, age) VALUES ('puterism', 'a', 'b', 20)");
+        jdbcTemplate.update("INSERT INTO orders (id, customer_username) VALUES (1, 'puterism')");
+        jdbcTemplate.update("INSERT INTO orders (id, customer_username) VALUES (1000, 'puterism')");
+        jdbcTemplate.update("INSERT INTO orders (id, customer_username) VALUES (2500, 'puterism')");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE customer_id IS NULL", Integer.class))
+                .isZero();
+    }
+}
@@ -8,10 +8,13 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.jdbc.Sql;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.Orders;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @JdbcTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
@@ -31,10 +34,10 @@ class OrderDaoTest {
     @Test
     void addOrders() {
         //given
-        final String customerUsername = "kth990303";
+        final Long customerId = 1L;
 
         //when
-        final Long orderId = orderDao.addOrders(customerUsername);
+        final Long orderId = orderDao.addOrders(customerId);
 
         //then
         assertThat(orderId).isNotNull();
@@ -44,15 +47,87 @@ class OrderDaoTest {
     @Test
     void findOrderIdsByCustomerId() {
         //given
-        final String customerUsername = "kth990303";
-        jdbcTemplate.update("INSERT INTO ORDERS (customer_username) VALUES (?)", customerUsername);
-        jdbcTemplate.update("INSERT INTO ORDERS (customer_username) VALUES (?)", customerUsername);
+        final Long customerId = 1L;
+        jdbcTemplate.update("INSERT INTO ORDERS (customer_id) VALUES (?)", customerId);
+        jdbcTemplate.update("INSERT INTO ORDERS (customer_id) VALUES (?)", customerId);
 
         //when
-        final List<Long> orderIdsByCustomerId = orderDao.findOrderIdsByCustomerUsername(customerUsername);
+        final List<Long> orderIdsByCustomerId = orderDao.findOrderIdsByCustomerId(customerId);
 
         //then
         assertThat(orderIdsByCustomerId).hasSize(2);
     }
 
+    @DisplayName("주문 상세와 상품 정보를 포함한 주문 목록을 커서 이후부터 조회하는 기능")
+    @Test
+    void findOrdersAfter() {
+        //given
+        final Long customerId = 1L;
+        final Long productId = addProduct("치킨", 10_000);
+        final Long firstOrderId = addOrderWithDetail(customerId, productId, 2);
+        final Long secondOrderId = addOrderWithDetail(customerId, productId, 3);
+        final Long thirdOrderId = orderDao.addOrders(customerId);
+        addOrderWithDetail(2L, productId, 1);
+
+        //when
+        final List<Orders> orders = orderDao.findOrdersAfter(customerId, firstOrderId, 10);
+
+        //then
+        assertAll(
+                () -> assertThat(orders).extracting(Orders::getId).containsExactly(secondOrderId, thirdOrderId),
+                () -> assertThat(orders.get(0).getOrderDetails()).extracting(OrderDetail::getName)
+                        .containsExactly("치킨"),
+                () -> assertThat(orders.get(0).getOrderDetails()).extracting(OrderDetail::getQuantity)
+                        .containsExactly(3),
+                () -> assertThat(orders.get(1).getOrderDetails()).isEmpty()
+        );
+    }
+
+    @DisplayName("주문 목록 조회 시 상세 항목 수와 관계없이 주문 개수만큼 조회하는 기능")
+    @Test
+    void findOrdersAfter_limitByOrders() {
+        //given
+        final Long customerId = 1L;
+        final Long productId = addProduct("치킨", 10_000);
+        final Long firstOrderId = addOrderWithDetail(customerId, productId, 2);
+        jdbcTemplate.update("INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (?, ?, ?)",
+                firstOrderId, productId, 1);
+        addOrderWithDetail(customerId, productId, 3);
+
+        //when
+        final List<Orders> orders = orderDao.findOrdersAfter(customerId, 0L, 1);
+
+        //then
+        assertAll(
+                () -> assertThat(orders).extracting(Orders::getId).containsExactly(firstOrderId),
+                () -> assertThat(orders.get(0).getOrderDetails()).hasSize(2)
+        );
+    }
+
+    @DisplayName("다른 회원의 주문은 아이디로 조회되지 않는 기능")
+    @Test
+    void findOrderById_otherCustomer() {
+        //given
+        final Long productId = addProduct("치킨", 10_000);
+        final Long orderId = addOrderWithDetail(2L, productId, 1);
+
+        //when & then
+        assertAll(
+                () -> assertThat(orderDao.findOrderById(2L, orderId)).isPresent(),
+                () -> assertThat(orderDao.findOrderById(1L, orderId)).isEmpty()
+        );
+    }
+
+    private Long addProduct(final String name, final int price) {
+        jdbcTemplate.update("INSERT INTO product (name, price, thumbnail) VALUES (?, ?, ?)",
+                name, price, "imageUrl");
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
+    }
+
+    private Long addOrderWithDetail(final Long customerId, final Long productId, final int quantity) {
+        final Long orderId = orderDao.addOrders(customerId);
+        jdbcTemplate.update("INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (?, ?, ?)",
+                orderId, productId, quantity);
+        return orderId;
+    }
 }
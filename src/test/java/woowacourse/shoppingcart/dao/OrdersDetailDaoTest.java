@@ -26,7 +26,6 @@ class OrdersDetailDaoTest {
     private long ordersId;
     private long productId;
     private long customerId;
-    private String customerUsername;
 
     public OrdersDetailDaoTest(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
@@ -36,8 +35,7 @@ class OrdersDetailDaoTest {
     @BeforeEach
     void setUp() {
         customerId = 1L;
-        customerUsername = "kth990303";
-        jdbcTemplate.update("INSERT INTO orders (customer_username) VALUES (?)", customerUsername);
+        jdbcTemplate.update("INSERT INTO orders (customer_id) VALUES (?)", customerId);
         ordersId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
 
         jdbcTemplate.update("INSERT INTO product (name, price, thumbnail) VALUES (?, ?, ?)"
@@ -59,6 +57,21 @@ class OrdersDetailDaoTest {
         assertThat(orderDetailId).isEqualTo(1L);
     }
 
+    @DisplayName("여러 OrderDetail을 한 번에 추가하는 기능")
+    @Test
+    void addOrdersDetails() {
+        //given
+        List<OrderDetail> orderDetails = List.of(new OrderDetail(productId, 2), new OrderDetail(productId, 3));
+
+        //when
+        ordersDetailDao.addOrdersDetails(ordersId, orderDetails);
+
+        //then
+        assertThat(ordersDetailDao.findOrdersDetailsByOrderId(ordersId))
+                .extracting(OrderDetail::getQuantity)
+                .containsExactlyInAnyOrder(2, 3);
+    }
+
     @DisplayName("OrderId로 OrderDetails 조회하는 기능")
     @Test
     void findOrdersDetailsByOrderId() {
@@ -11,6 +11,7 @@ import org.springframework.test.context.jdbc.Sql;
 import woowacourse.shoppingcart.domain.Product;
 import woowacourse.shoppingcart.exception.InvalidProductException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -67,12 +68,44 @@ public class ProductDaoTest {
         final int size = 0;
 
         // when
-        final List<Product> products = productDao.findProducts();
+        final List<Product> products = productDao.findProductsAfter(0L, 100);
 
         // then
         assertThat(products).size().isEqualTo(size);
     }
 
+    @DisplayName("cursor 이후의 상품 목록을 id 순으로 limit 만큼 조회한다.")
+    @Test
+    void findProductsAfter() {
+        // given
+        final Long productId1 = productDao.save(new Product("초콜렛", 1_000, "www.test.com"));
+        final Long productId2 = productDao.save(new Product("사탕", 500, "www.test.com"));
+        final Long productId3 = productDao.save(new Product("젤리", 700, "www.test.com"));
+        productDao.save(new Product("껌", 300, "www.test.com"));
+
+        // when
+        final List<Product> products = productDao.findProductsAfter(productId1, 2);
+
+        // then
+        assertThat(products).extracting(Product::getId)
+                .containsExactly(productId2, productId3);
+    }
+
+    @DisplayName("전체 상품을 목록으로 모으지 않고 한 건씩 id 순으로 전달한다.")
+    @Test
+    void streamProducts() {
+        // given
+        final Long productId1 = productDao.save(new Product("초콜렛", 1_000, "www.test.com"));
+        final Long productId2 = productDao.save(new Product("사탕", 500, "www.test.com"));
+        final List<Long> streamedIds = new ArrayList<>();
+
+        // when
+        productDao.streamProducts(product -> streamedIds.add(product.getId()));
+
+        // then
+        assertThat(streamedIds).containsExactly(productId1, productId2);
+    }
+
     @DisplayName("싱품을 삭제한다.")
     @Test
     void deleteProduct() {
@@ -81,13 +114,13 @@ public class ProductDaoTest {
         final int price = 1_000;
         final String imageUrl = "www.test.com";
         final Long productId = productDao.save(new Product(name, price, imageUrl));
-        final int beforeSize = productDao.findProducts().size();
+        final int beforeSize = productDao.findProductsAfter(0L, 100).size();
 
         // when
         productDao.delete(productId);
 
         // then
-        final int afterSize = productDao.findProducts().size();
+        final int afterSize = productDao.findProductsAfter(0L, 100).size();
         assertThat(beforeSize - 1).isEqualTo(afterSize);
     }
 }
@@ -0,0 +1,203 @@
+package woowacourse.shoppingcart.dao;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import woowacourse.auth.support.HashPasswordEncoder;
+import woowacourse.auth.support.RefreshSession;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.Product;
+import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.domain.customer.RawPassword;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryPlanTest {
+    private static final Long CUSTOMER_ID = 1L;
+    // 조건 없이 테이블이나 인덱스 전체를 읽는 H2 실행 계획: /* PUBLIC.T.tableScan */, /* PUBLIC.PRIMARY_KEY_9 */
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\* PUBLIC\\.[\\w.]+ \\*/");
+
+    private final SingleConnectionDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final StatementRecordingDataSource recordingDataSource;
+    private final JdbcTemplate recordingJdbcTemplate;
+
+    public QueryPlanTest() {
+        this.dataSource = new SingleConnectionDataSource("jdbc:h2:mem:query_plan;MODE=MYSQL", "sa", "", true);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.recordingDataSource = new StatementRecordingDataSource(dataSource);
+        this.recordingJdbcTemplate = new JdbcTemplate(recordingDataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate.update("INSERT INTO customer (id, username, password, nickname, age) "
+                + "VALUES (?, 'puterism', 'password123!', 'nickname', 24)", CUSTOMER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @DisplayName("회원 DAO가 키로 실행하는 쿼리는 테이블 전체를 읽지 않는다.")
+    @Test
+    void customerDao() {
+        CustomerDao customerDao = new CustomerDao(recordingJdbcTemplate);
+        Customer customer = Customer.of("kth990303",
+                new HashPasswordEncoder().encode(new RawPassword("kth@990303")), "케이", 23);
+
+        customerDao.save(customer);
+        customerDao.findIdByUsername("kth990303");
+        customerDao.existsByUsername("kth990303");
+        customerDao.findCustomerByUsername("kth990303");
+        customerDao.updatePassword(customer.getPassword(), "kth990303");
+        customerDao.updatePasswordIfUnchanged(customer.getPassword(), "kth990303", customer.getPassword());
+        customerDao.updateInfo("kth990303", "케이", 24);
+        customerDao.delete(customer);
+
+        assertNoTableScan();
+    }
+
+    @DisplayName("상품 DAO가 키로 실행하는 쿼리는 테이블 전체를 읽지 않는다.")
+    @Test
+    void productDao() {
+        ProductDao productDao = new ProductDao(recordingJdbcTemplate);
+
+        Long productId = productDao.save(new Product("초콜렛", 1_000, "www.test.com"));
+        productDao.findProductById(productId);
+        productDao.findProductsAfter(0L, 21);
+        productDao.delete(productId);
+
+        assertNoTableScan();
+    }
+
+    @DisplayName("장바구니 DAO가 키로 실행하는 쿼리는 테이블 전체를 읽지 않는다.")
+    @Test
+    void cartDao() {
+        Long productId1 = new ProductDao(jdbcTemplate).save(new Product("초콜렛", 1_000, "www.test.com"));
+        Long productId2 = new ProductDao(jdbcTemplate).save(new Product("사탕", 500, "www.test.com"));
+        CartDao cartDao = new CartDao(recordingJdbcTemplate);
+
+        cartDao.addCartItem(CUSTOMER_ID, productId1);
+        cartDao.addCartItem(CUSTOMER_ID, productId2);
+        cartDao.findCartItemsByCustomerId(CUSTOMER_ID);
+        cartDao.findProductIdsByCustomerId(CUSTOMER_ID);
+        cartDao.findCartItemByProductId(productId1, CUSTOMER_ID);
+        cartDao.findCartItemsByProductIds(List.of(productId1, productId2), CUSTOMER_ID);
+        cartDao.updateCartItemQuantity(3, productId1, CUSTOMER_ID);
+        cartDao.deleteCartItem(List.of(productId1), CUSTOMER_ID);
+        cartDao.deleteAllCartItems(CUSTOMER_ID);
+
+        assertNoTableScan();
+    }
+
+    @DisplayName("주문 DAO가 키로 실행하는 쿼리는 테이블 전체를 읽지 않는다.")
+    @Test
+    void orderDao() {
+        Long productId = new ProductDao(jdbcTemplate).save(new Product("초콜렛", 1_000, "www.test.com"));
+        OrderDao orderDao = new OrderDao(recordingJdbcTemplate);
+        OrdersDetailDao ordersDetailDao = new OrdersDetailDao(recordingJdbcTemplate);
+
+        Long orderId = orderDao.addOrders(CUSTOMER_ID);
+        ordersDetailDao.addOrdersDetail(orderId, productId, 1);
+        ordersDetailDao.addOrdersDetails(orderId, List.of(new OrderDetail(productId, 2)));
+        orderDao.findOrderIdsByCustomerId(CUSTOMER_ID);
+        orderDao.findOrdersAfter(CUSTOMER_ID, 0L, 21);
+        orderDao.findOrderById(CUSTOMER_ID, orderId);
+        ordersDetailDao.findOrdersDetailsByOrderId(orderId);
+
+        assertNoTableScan();
+    }
+
+    @DisplayName("리프레시 토큰 DAO가 실행하는 쿼리는 테이블 전체를 읽지 않는다.")
+    @Test
+    void refreshTokenDao() {
+        RefreshTokenDao refreshTokenDao = new RefreshTokenDao(recordingJdbcTemplate);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        refreshTokenDao.save("token-hash", new RefreshSession(CUSTOMER_ID, "puterism", expiresAt), Instant.now());
+        refreshTokenDao.remove("token-hash");
+        refreshTokenDao.removeByCustomerId(CUSTOMER_ID, Instant.now());
+        refreshTokenDao.removeExpired(Instant.now());
+
+        assertNoTableScan();
+    }
+
+    private void assertNoTableScan() {
+        List<String> statements = recordingDataSource.getStatements();
+        assertThat(statements).isNotEmpty();
+        for (String statement : statements) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + statement, String.class);
+            assertThat(plan).as(statement).doesNotContainPattern(FULL_SCAN);
+        }
+    }
+
+    private static class StatementRecordingDataSource extends DelegatingDataSource {
+        private final List<String> statements = new ArrayList<>();
+
+        StatementRecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return recording(Connection.class, connection, (method, args) -> {
+                if (method.getName().equals("prepareStatement")) {
+                    statements.add((String) args[0]);
+                }
+            }, (method, result) -> {
+                if (method.getName().equals("createStatement")) {
+                    return recordingStatement((Statement) result);
+                }
+                return result;
+            });
+        }
+
+        private Statement recordingStatement(Statement statement) {
+            return recording(Statement.class, statement, (method, args) -> {
+                if (method.getName().startsWith("execute") && args != null && args[0] instanceof String) {
+                    statements.add((String) args[0]);
+                }
+            }, (method, result) -> result);
+        }
+
+        private <T> T recording(Class<T> type, T target, BiConsumer<Method, Object[]> recorder,
+                                BiFunction<Method, Object, Object> resultWrapper) {
+            return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        recorder.accept(method, args);
+                        try {
+                            return resultWrapper.apply(method, method.invoke(target, args));
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }));
+        }
+
+        List<String> getStatements() {
+            return statements;
+        }
+    }
+}
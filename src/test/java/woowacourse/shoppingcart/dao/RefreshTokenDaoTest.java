@@ -0,0 +1,106 @@
+package woowacourse.shoppingcart.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+import woowacourse.auth.support.RefreshSession;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Sql(scripts = {"classpath:test_schema.sql", "classpath:data.sql"})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+public class RefreshTokenDaoTest {
+    private static final Instant NOW = Instant.parse("2022-06-01T00:00:00Z");
+
+    private final RefreshTokenDao refreshTokenDao;
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshTokenDaoTest(JdbcTemplate jdbcTemplate) {
+        this.refreshTokenDao = new RefreshTokenDao(jdbcTemplate);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("저장한 세션을 회원 아이디와 함께 꺼내고 삭제한다.")
+    @Test
+    void remove() {
+        refreshTokenDao.save("token", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW);
+
+        Optional<RefreshSession> first = refreshTokenDao.remove("token");
+        Optional<RefreshSession> second = refreshTokenDao.remove("token");
+
+        assertAll(
+                () -> assertThat(first).map(RefreshSession::getUsername).contains("puterism"),
+                () -> assertThat(first).map(RefreshSession::getExpiresAt).contains(NOW.plusSeconds(60)),
+                () -> assertThat(second).isEmpty()
+        );
+    }
+
+    @DisplayName("만료된 세션만 삭제한다.")
+    @Test
+    void removeExpired() {
+        refreshTokenDao.save("expired", new RefreshSession(1L, "puterism", NOW), NOW);
+        refreshTokenDao.save("alive", new RefreshSession(1L, "puterism", NOW.plusSeconds(1)), NOW);
+
+        int removed = refreshTokenDao.removeExpired(NOW);
+
+        assertAll(
+                () -> assertThat(removed).isEqualTo(1),
+                () -> assertThat(refreshTokenDao.remove("alive")).isPresent()
+        );
+    }
+
+    @DisplayName("회원의 세션을 모두 삭제한다.")
+    @Test
+    void removeByCustomerId() {
+        refreshTokenDao.save("first", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW);
+        refreshTokenDao.save("second", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW);
+        refreshTokenDao.save("other", new RefreshSession(2L, "tanney-102", NOW.plusSeconds(60)), NOW);
+
+        refreshTokenDao.removeByCustomerId(1L, NOW);
+
+        assertThat(countSessions()).isEqualTo(1);
+    }
+
+    @DisplayName("회원의 세션이 폐기되기 전에 인증한 요청의 세션은 저장하지 않는다.")
+    @Test
+    void save_authenticatedBeforeRevocation() {
+        refreshTokenDao.removeByCustomerId(1L, NOW);
+
+        boolean staleSaved = refreshTokenDao.save(
+                "stale", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW.minusSeconds(1));
+        boolean freshSaved = refreshTokenDao.save(
+                "fresh", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW.plusSeconds(1));
+
+        assertAll(
+                () -> assertThat(staleSaved).isFalse(),
+                () -> assertThat(freshSaved).isTrue(),
+                () -> assertThat(refreshTokenDao.remove("stale")).isEmpty(),
+                () -> assertThat(refreshTokenDao.remove("fresh")).isPresent()
+        );
+    }
+
+    @DisplayName("회원이 삭제되면 세션도 함께 삭제된다.")
+    @Test
+    void deleteCustomer_cascade() {
+        refreshTokenDao.save("token", new RefreshSession(1L, "puterism", NOW.plusSeconds(60)), NOW);
+
+        jdbcTemplate.update("DELETE FROM customer WHERE id = ?", 1L);
+
+        assertThat(countSessions()).isZero();
+    }
+
+    private Integer countSessions() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_token", Integer.class);
+    }
+}
@@ -17,4 +17,14 @@ class CartItemTest {
 
         assertThat(cartItem.getQuantity()).isEqualTo(expectedQuantity);
     }
+
+    @DisplayName("같은 상품을 담은 아이템은 수량과 관계없이 동등하다.")
+    @Test
+    void equals() {
+        CartItem cartItem = CartItem.of(1L, "감자", 200, "potato.jpg", 3);
+        CartItem sameProductItem = CartItem.of(1L, "감자", 200, "potato.jpg", 5);
+
+        assertThat(cartItem).isEqualTo(sameProductItem)
+                .hasSameHashCodeAs(sameProductItem);
+    }
 }
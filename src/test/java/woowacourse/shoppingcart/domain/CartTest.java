@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import woowacourse.shoppingcart.exception.ExistCartItemException;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -39,6 +40,34 @@ class CartTest {
                 .withMessageContaining("이미");
     }
 
+    @DisplayName("같은 상품을 담은 다른 카트 아이템을 담으려하면 예외를 발생시킨다.")
+    @Test
+    void add_duplicateProduct() {
+        cart.add(cartItem);
+
+        assertThatExceptionOfType(ExistCartItemException.class)
+                .isThrownBy(() -> cart.add(cartItem.getProduct()))
+                .withMessageContaining("이미");
+    }
+
+    @DisplayName("상품당 아이템 하나만 담을 수 있으므로, 생성 시 같은 상품이 중복되면 한쪽을 버리지 않고 예외를 발생시킨다.")
+    @Test
+    void constructor_duplicateProduct() {
+        CartItem sameProductItem = CartItem.of(1L, "감자", 200, "potato.jpg", 5);
+
+        assertThatExceptionOfType(ExistCartItemException.class)
+                .isThrownBy(() -> new Cart(List.of(cartItem, sameProductItem)))
+                .withMessageContaining("이미");
+    }
+
+    @DisplayName("서로 다른 상품으로 생성하면 담은 순서대로 보관한다.")
+    @Test
+    void constructor_keepOrder() {
+        CartItem otherItem = CartItem.of(2L, "고구마", 300, "sweet-potato.jpg", 1);
+
+        assertThat(new Cart(List.of(otherItem, cartItem)).getCartItems()).containsExactly(otherItem, cartItem);
+    }
+
     @DisplayName("카트 상품 수량을 변경한다.")
     @Test
     void update() {
@@ -50,6 +79,19 @@ class CartTest {
         assertThat(actual.getQuantity()).isEqualTo(2);
     }
 
+    @DisplayName("카트 상품 수량을 변경해도 담은 순서가 유지된다.")
+    @Test
+    void update_keepOrder() {
+        CartItem otherItem = CartItem.of(2L, "고구마", 300, "sweet-potato.jpg", 1);
+        cart.add(cartItem);
+        cart.add(otherItem);
+
+        cart.updateCartItem(cartItem, 5);
+
+        assertThat(cart.getCartItems()).containsExactly(cartItem, otherItem);
+        assertThat(cart.getCartItems().get(0).getQuantity()).isEqualTo(5);
+    }
+
     @DisplayName("카트의 상품 일부를 제거한다.")
     @Test
     void delete() {
@@ -59,4 +101,14 @@ class CartTest {
 
         assertThat(cart.getCartItems().size()).isEqualTo(0);
     }
+
+    @DisplayName("같은 상품의 카트 아이템으로 상품을 제거한다.")
+    @Test
+    void delete_sameProduct() {
+        cart.add(cartItem);
+
+        cart.delete(CartItem.of(1L, "감자", 200, "potato.jpg", 7));
+
+        assertThat(cart.contains(cartItem.getProduct())).isFalse();
+    }
 }
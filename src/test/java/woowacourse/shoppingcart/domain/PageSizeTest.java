@@ -0,0 +1,75 @@
+package woowacourse.shoppingcart.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import woowacourse.shoppingcart.exception.InvalidArgumentRequestException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PageSizeTest {
+
+    @DisplayName("페이지 크기가 1 미만이거나 100을 초과하면 예외가 발생한다.")
+    @ParameterizedTest
+    @ValueSource(ints = {0, 101})
+    void construct_outOfRange(int size) {
+        assertThatExceptionOfType(InvalidArgumentRequestException.class)
+                .isThrownBy(() -> new PageSize(size))
+                .withMessageContaining("페이지 크기");
+    }
+
+    @DisplayName("다음 페이지 여부를 판단하기 위해 한 건을 더 조회한다.")
+    @Test
+    void getFetchSize() {
+        assertThat(new PageSize(20).getFetchSize()).isEqualTo(21);
+    }
+
+    @DisplayName("페이지 크기보다 많이 조회되면 다음 페이지가 있고, 페이지 크기만큼 잘라낸다.")
+    @Test
+    void slice_hasNext() {
+        PageSize pageSize = new PageSize(2);
+        List<Integer> fetched = List.of(1, 2, 3);
+
+        assertAll(
+                () -> assertThat(pageSize.hasNext(fetched)).isTrue(),
+                () -> assertThat(pageSize.slice(fetched)).containsExactly(1, 2)
+        );
+    }
+
+    @DisplayName("페이지 크기 이하로 조회되면 다음 페이지가 없다.")
+    @Test
+    void slice_lastPage() {
+        PageSize pageSize = new PageSize(2);
+        List<Integer> fetched = List.of(1, 2);
+
+        assertAll(
+                () -> assertThat(pageSize.hasNext(fetched)).isFalse(),
+                () -> assertThat(pageSize.slice(fetched)).containsExactly(1, 2)
+        );
+    }
+
+    @DisplayName("cursor가 없으면 첫 페이지부터 조회한다.")
+    @Test
+    void startCursor() {
+        assertAll(
+                () -> assertThat(PageSize.startCursor(null)).isZero(),
+                () -> assertThat(PageSize.startCursor(7L)).isEqualTo(7L)
+        );
+    }
+
+    @DisplayName("다음 페이지가 있으면 페이지의 마지막 id를, 없으면 null을 다음 cursor로 반환한다.")
+    @Test
+    void nextCursor() {
+        PageSize pageSize = new PageSize(2);
+
+        assertAll(
+                () -> assertThat(pageSize.nextCursor(List.of(3L, 5L, 8L), id -> id)).isEqualTo(5L),
+                () -> assertThat(pageSize.nextCursor(List.of(3L, 5L), id -> id)).isNull()
+        );
+    }
+}
@@ -7,8 +7,19 @@ import woowacourse.shoppingcart.exception.InvalidArgumentRequestException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
 
 class CustomerTest {
+    private final PasswordEncoder passwordEncoder = new HashPasswordEncoder();
+
+    @DisplayName("비밀번호가 일치하면 예외가 발생하지 않는다.")
+    @Test
+    void validatePassword() {
+        Customer customer =
+                Customer.of("forky123", encode("forky!1234"), "forky", 26);
+        assertThatNoException()
+                .isThrownBy(() -> customer.validatePassword(new RawPassword("forky!1234"), passwordEncoder));
+    }
 
     @DisplayName("비밀번호가 일치하지 않으면 예외가 발생한다.")
     @Test
@@ -16,7 +27,7 @@ class CustomerTest {
         Customer customer =
                 Customer.of("forky123", encode("forky!1234"), "forky", 26);
         assertThatExceptionOfType(InvalidArgumentRequestException.class)
-                .isThrownBy(() -> customer.validatePassword(encode("kei!1234")))
+                .isThrownBy(() -> customer.validatePassword(new RawPassword("kei!1234"), passwordEncoder))
                 .withMessageContaining("일치");
     }
 
@@ -31,8 +42,6 @@ class CustomerTest {
     }
 
     private EncodePassword encode(String rawPassword) {
-        RawPassword password = new RawPassword(rawPassword);
-        PasswordEncoder passwordEncoder = new HashPasswordEncoder();
-        return passwordEncoder.encode(password);
+        return passwordEncoder.encode(new RawPassword(rawPassword));
     }
 }
\ No newline at end of file
@@ -4,9 +4,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import woowacourse.auth.support.HashPasswordEncoder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 class EncodePasswordTest {
 
@@ -17,12 +19,20 @@ class EncodePasswordTest {
         assertThat(expected.length()).isEqualTo(64);
     }
 
+    @DisplayName("암호화 비밀번호가 비어있거나 255자를 넘으면 예외를 발생시킨다.")
+    @ParameterizedTest
+    @ValueSource(ints = {0, 256})
+    void validatePassword_invalidLength(int length) {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new EncodePassword("a".repeat(length)));
+    }
+
     @DisplayName("비밀번호 일치 여부를 확인한다.")
     @ParameterizedTest(name = "{0}")
     @CsvSource({"kth@990303, true", "forky@123, false"})
-    void hasSamePassword(String password, boolean expected) {
+    void matches(String password, boolean expected) {
         EncodePassword given = encode("kth@990303");
-        assertThat(given.hasSamePassword(encode(password))).isEqualTo(expected);
+        assertThat(new HashPasswordEncoder().matches(new RawPassword(password), given)).isEqualTo(expected);
     }
 
     private EncodePassword encode(String rawPassword) {
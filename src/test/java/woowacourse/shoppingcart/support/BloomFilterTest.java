@@ -0,0 +1,53 @@
+package woowacourse.shoppingcart.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class BloomFilterTest {
+
+    @DisplayName("넣은 값은 항상 포함될 수 있다고 판단한다.")
+    @Test
+    void mightContain_inserted() {
+        BloomFilter bloomFilter = BloomFilter.create(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> bloomFilter.put("user" + i));
+
+        assertThat(IntStream.range(0, 1_000)).allMatch(i -> bloomFilter.mightContain("user" + i));
+    }
+
+    @DisplayName("넣지 않은 값의 오탐률은 설정한 오탐률 근처에 머무른다.")
+    @Test
+    void mightContain_falsePositiveRate() {
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("user" + i));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> bloomFilter.mightContain("absent" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(bloomFilter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+    }
+
+    @DisplayName("비어있는 필터는 어떤 값도 포함하지 않는다.")
+    @Test
+    void mightContain_empty() {
+        BloomFilter bloomFilter = BloomFilter.create(100, 0.01);
+
+        assertThat(bloomFilter.mightContain("puterism")).isFalse();
+    }
+
+    @DisplayName("오탐률이 0 이하이거나 1 이상이면 예외를 발생시킨다.")
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 1})
+    void create_invalidFalsePositiveRate(double falsePositiveRate) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BloomFilter.create(100, falsePositiveRate));
+    }
+}
@@ -0,0 +1,61 @@
+package woowacourse.shoppingcart.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.Product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Transactional
+@Sql("/test_schema.sql")
+class DaoMetricsAspectTest {
+
+    @Autowired
+    private ProductDao productDao;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DisplayName("DAO 메서드의 실행 시간과 조회된 행 수를 메서드별로 기록한다.")
+    @Test
+    void record() {
+        productDao.save(new Product("치킨", 10_000, "chicken.com"));
+        productDao.save(new Product("피자", 20_000, "pizza.com"));
+
+        productDao.findProductsAfter(0L, 10);
+
+        Timer timer = meterRegistry.find("dao.query")
+                .tags("class", "ProductDao", "method", "findProductsAfter", "outcome", "success")
+                .timer();
+        DistributionSummary rows = meterRegistry.find("dao.query.rows")
+                .tags("class", "ProductDao", "method", "findProductsAfter")
+                .summary();
+        assertAll(
+                () -> assertThat(timer).isNotNull(),
+                () -> assertThat(timer.count()).isPositive(),
+                () -> assertThat(rows.max()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("행을 Consumer로 넘기는 스트리밍 메서드는 쿼리 시간으로 기록하지 않는다.")
+    @Test
+    void record_excludeStreaming() {
+        productDao.save(new Product("치킨", 10_000, "chicken.com"));
+
+        productDao.streamProducts(product -> {
+        });
+
+        assertThat(meterRegistry.find("dao.query").tags("class", "ProductDao", "method", "streamProducts").timer())
+                .isNull();
+    }
+}
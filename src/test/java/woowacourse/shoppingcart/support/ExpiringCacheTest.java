@@ -0,0 +1,162 @@
+package woowacourse.shoppingcart.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ExpiringCacheTest {
+    private final MutableClock clock = new MutableClock();
+    private final ExpiringCache<Long, String> cache = new ExpiringCache<>(2, Duration.ofMinutes(1), clock);
+
+    @DisplayName("캐시에 없으면 loader로 읽어 저장하고, 이후에는 캐시에서 반환한다.")
+    @Test
+    void get_readThrough() {
+        cache.get(1L, key -> Optional.of("감자"));
+        Optional<String> actual = cache.get(1L, key -> Optional.of("고구마"));
+
+        assertAll(
+                () -> assertThat(actual).contains("감자"),
+                () -> assertThat(cache.missCount()).isEqualTo(1),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("loader가 값을 찾지 못하면 캐시에 저장하지 않는다.")
+    @Test
+    void get_emptyNotCached() {
+        cache.get(1L, key -> Optional.empty());
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @DisplayName("최대 크기를 넘기면 가장 오래 사용되지 않은 항목을 제거한다.")
+    @Test
+    void put_evictLeastRecentlyUsed() {
+        cache.put(1L, "감자");
+        cache.put(2L, "고구마");
+        cache.getIfPresent(1L);
+
+        cache.put(3L, "옥수수");
+
+        assertAll(
+                () -> assertThat(cache.getIfPresent(1L)).contains("감자"),
+                () -> assertThat(cache.getIfPresent(2L)).isEmpty(),
+                () -> assertThat(cache.evictionCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("TTL이 지난 항목은 조회 시 제거된다.")
+    @Test
+    void getIfPresent_expired() {
+        cache.put(1L, "감자");
+
+        clock.advance(Duration.ofMinutes(1));
+
+        assertAll(
+                () -> assertThat(cache.getIfPresent(1L)).isEmpty(),
+                () -> assertThat(cache.size()).isEqualTo(0),
+                () -> assertThat(cache.evictionCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("무효화한 항목은 다시 loader로 읽는다.")
+    @Test
+    void invalidate() {
+        cache.put(1L, "감자");
+
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L, key -> Optional.of("고구마"))).contains("고구마");
+    }
+
+    @DisplayName("읽는 도중 무효화가 일어나면 읽은 값을 캐시에 저장하지 않는다.")
+    @Test
+    void get_invalidatedWhileLoading() {
+        cache.get(1L, key -> {
+            cache.invalidate(key);
+            return Optional.of("감자");
+        });
+
+        assertThat(cache.getIfPresent(1L)).isEmpty();
+    }
+
+    @DisplayName("읽는 도중 다른 항목이 무효화되어도 읽은 값은 캐시에 저장한다.")
+    @Test
+    void get_otherKeyInvalidatedWhileLoading() {
+        cache.get(1L, key -> {
+            cache.invalidate(2L);
+            return Optional.of("감자");
+        });
+
+        assertThat(cache.getIfPresent(1L)).contains("감자");
+    }
+
+    @DisplayName("읽는 도중 전체 무효화가 일어나면 읽은 값을 캐시에 저장하지 않는다.")
+    @Test
+    void get_allInvalidatedWhileLoading() {
+        cache.get(1L, key -> {
+            cache.invalidateAll();
+            return Optional.of("감자");
+        });
+
+        assertThat(cache.getIfPresent(1L)).isEmpty();
+    }
+
+    @DisplayName("여러 스레드가 동시에 조회해도 적중 횟수를 모두 센다.")
+    @Test
+    void getIfPresent_concurrently() throws Exception {
+        cache.put(1L, "감자");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = IntStream.range(0, 1_000)
+                    .<Callable<Boolean>>mapToObj(i -> () -> cache.getIfPresent(1L).isPresent())
+                    .collect(Collectors.toList());
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.hitCount()).isEqualTo(1_000);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package woowacourse.shoppingcart.ui;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import woowacourse.shoppingcart.support.RequestTimings;
+
+import javax.servlet.DispatcherType;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ExtendWith(OutputCaptureExtension.class)
+class SlowRequestInterceptorTest {
+
+    @DisplayName("임계값을 넘은 요청은 경로 템플릿과 사용자, 구간별 시간을 기록한다.")
+    @Test
+    void logSlowRequest(CapturedOutput output) {
+        SlowRequestInterceptor interceptor = new SlowRequestInterceptor(Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/cart/3/quantity");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/cart/{productId}/quantity");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        RequestTimings.from(request).orElseThrow().recordAuthentication("puterism", 0);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(output).contains("slow request: PUT /cart/{productId}/quantity")
+                .contains("principal=puterism")
+                .contains("auth=")
+                .contains("service=")
+                .contains("serialization=")
+                .doesNotContain("/cart/3/quantity");
+    }
+
+    @DisplayName("임계값보다 빠른 요청은 기록하지 않는다.")
+    @Test
+    void skipFastRequest(CapturedOutput output) {
+        SlowRequestInterceptor interceptor = new SlowRequestInterceptor(Duration.ofMinutes(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(output).doesNotContain("slow request");
+    }
+
+    @DisplayName("비동기로 응답을 쓰는 요청은 최초 요청부터 비동기 디스패치가 끝날 때까지를 기록한다.")
+    @Test
+    void logSlowAsyncRequest(CapturedOutput output) {
+        SlowRequestInterceptor interceptor = new SlowRequestInterceptor(Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/export");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        RequestTimings timings = RequestTimings.from(request).orElseThrow();
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertAll(
+                () -> assertThat(RequestTimings.from(request)).containsSame(timings),
+                () -> assertThat(output).contains("slow request: GET /products/export")
+        );
+    }
+}
@@ -1,3 +1,5 @@
+drop table if exists refresh_token;
+
 drop table if exists orders_detail;
 
 drop table if exists orders;
@@ -10,11 +12,12 @@ drop table if exists customer;
 
 create table customer
 (
-    id       bigint      not null auto_increment,
-    username varchar(20) not null unique,
-    password varchar(64) not null,
-    nickname varchar(10) not null,
-    age      int         not null,
+    id       bigint       not null auto_increment,
+    username varchar(20)  not null unique,
+    password varchar(255) not null,
+    nickname varchar(10)  not null,
+    age      int          not null,
+    refresh_tokens_revoked_at datetime(6),
     primary key (id)
 );
 
@@ -29,18 +32,26 @@ create table product
 
 create table cart_item
 (
-    id                bigint       not null auto_increment,
-    customer_username varchar(255) not null,
-    product_id        bigint       not null,
-    quantity          bigint       not null,
-    primary key (id)
+    id          bigint not null auto_increment,
+    customer_id bigint not null,
+    product_id  bigint not null,
+    quantity    bigint not null,
+    primary key (id),
+    constraint uk_cart_item_customer_product unique (customer_id, product_id),
+    constraint fk_cart_item_customer foreign key (customer_id) references customer (id)
+        on delete cascade,
+    constraint fk_cart_item_product foreign key (product_id) references product (id)
+        on delete cascade
 );
 
 create table orders
 (
-    id                bigint       not null auto_increment,
-    customer_username varchar(255) not null,
-    primary key (id)
+    id          bigint not null auto_increment,
+    customer_id bigint,
+    primary key (id),
+    index idx_orders_customer_id (customer_id),
+    constraint fk_orders_customer foreign key (customer_id) references customer (id)
+        on delete set null
 );
 
 create table orders_detail
@@ -49,5 +60,19 @@ create table orders_detail
     orders_id  bigint  not null,
     product_id bigint  not null,
     quantity   integer not null,
-    primary key (id)
+    primary key (id),
+    index idx_orders_detail_orders_id (orders_id),
+    constraint fk_orders_detail_orders foreign key (orders_id) references orders (id)
+        on delete cascade
+);
+
+create table refresh_token
+(
+    token_hash  varchar(64) not null,
+    customer_id bigint      not null,
+    expires_at  datetime    not null,
+    primary key (token_hash),
+    index idx_refresh_token_expires_at (expires_at),
+    constraint fk_refresh_token_customer foreign key (customer_id) references customer (id)
+        on delete cascade
 );
\ No newline at end of file